@@ -0,0 +1,97 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.exception.ItemBookingException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent booking requests against a small set of hot items.
+ * Requests for windows that collide with an approved booking are rejected, so the share of conflicts
+ * grows over the run and the benchmark covers both the rejection path and the locked approval path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class BookingAdmissionBenchmark {
+    private static final int HORIZON_DAYS = 365;
+
+    @Param({"1", "16"})
+    private int hotItems;
+
+    private ServerContext server;
+    private BookingService bookingService;
+    private List<Long> itemIds;
+    private long ownerId;
+    private long bookerId;
+    private LocalDateTime origin;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = ServerContext.start();
+        DatasetBuilder dataset = server.dataset();
+        ownerId = dataset.user("owner");
+        bookerId = dataset.user("booker");
+        itemIds = dataset.items(ownerId, hotItems, true);
+        bookingService = server.getBean(BookingService.class);
+        origin = LocalDateTime.now().plusDays(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public BookingDto create() {
+        try {
+            return bookingService.create(randomRequest());
+        } catch (ItemBookingException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public BookingDto createAndApprove() {
+        try {
+            BookingDto booking = bookingService.create(randomRequest());
+            return bookingService.approve(booking.getId(), ownerId, true);
+        } catch (ItemBookingException e) {
+            return null;
+        }
+    }
+
+    private BookingRequestDto randomRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime start = origin.plusHours(random.nextInt(HORIZON_DAYS * 24));
+        return BookingRequestDto.builder()
+                .id(bookerId)
+                .itemId(itemIds.get(random.nextInt(itemIds.size())))
+                .start(start)
+                .end(start.plusHours(1 + random.nextInt(72)))
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingCursor;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.mapper.BookingMapper;
+import ru.practicum.shareit.utils.OffsetPageRequest;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap allocated per page of a booker's history: the projection behind {@link BookingService#getAllByUser}
+ * against mapping managed bookings, bookers, items and item comments as the list endpoints did before.
+ * Compare {@code gc.alloc.rate.norm} of the two benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingListAllocationBenchmark {
+    private static final String ENTITY_PAGE = "select b from Booking b " +
+            "join fetch b.booker join fetch b.item " +
+            "where b.booker.id = :bookerId " +
+            "order by b.start desc, b.id desc";
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    @Param({"5"})
+    private int commentsPerItem;
+
+    private ServerContext server;
+    private BookingService bookingService;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private long bookerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = ServerContext.start();
+        DatasetBuilder dataset = server.dataset();
+        long ownerId = dataset.user("owner");
+        bookerId = dataset.user("booker");
+        List<Long> itemIds = dataset.items(ownerId, 100, false);
+        dataset.bookings(itemIds, bookerId, 10000, LocalDateTime.now());
+        dataset.comments(itemIds, bookerId, commentsPerItem, LocalDateTime.now());
+        bookingService = server.getBean(BookingService.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(server.getBean(EntityManagerFactory.class));
+        readOnly = new TransactionTemplate(server.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public List<BookingDto> projection() {
+        return bookingService.getAllByUser(bookerId, BookingState.ALL, BookingCursor.FIRST,
+                OffsetPageRequest.of(0, pageSize));
+    }
+
+    @Benchmark
+    public List<BookingDto> entities() {
+        return readOnly.execute(status -> BookingMapper.responseDtoListOf(entityManager
+                .createQuery(ENTITY_PAGE, Booking.class)
+                .setParameter("bookerId", bookerId)
+                .setMaxResults(pageSize)
+                .getResultList()));
+    }
+}
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingCursor;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.utils.OffsetPageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offset versus keyset paging of a booker's history at increasing depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingPagingBenchmark {
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"0", "1000", "10000", "49000"})
+    private int depth;
+
+    @Param({"50000"})
+    private int bookings;
+
+    private ServerContext server;
+    private BookingService bookingService;
+    private long bookerId;
+    private BookingCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = ServerContext.start();
+        DatasetBuilder dataset = server.dataset();
+        long ownerId = dataset.user("owner");
+        bookerId = dataset.user("booker");
+        List<Long> itemIds = dataset.items(ownerId, 100, false);
+        dataset.bookings(itemIds, bookerId, bookings, LocalDateTime.now());
+        bookingService = server.getBean(BookingService.class);
+        cursor = depth == 0 ? BookingCursor.FIRST : BookingCursor.after(bookingService.getAllByUser(bookerId,
+                BookingState.ALL, BookingCursor.FIRST, OffsetPageRequest.of(depth - 1, 1)).get(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public List<BookingDto> offset() {
+        return bookingService.getAllByUser(bookerId, BookingState.ALL, BookingCursor.FIRST,
+                OffsetPageRequest.of(depth, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<BookingDto> keyset() {
+        return bookingService.getAllByUser(bookerId, BookingState.ALL, cursor, OffsetPageRequest.of(0, PAGE_SIZE));
+    }
+}
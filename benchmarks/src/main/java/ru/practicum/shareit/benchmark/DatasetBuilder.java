@@ -0,0 +1,104 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DatasetBuilder {
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] STATUSES = {"APPROVED", "WAITING", "REJECTED", "APPROVED"};
+    private static final String[] TOOLS = {"drill", "hammer", "saw", "ladder", "tent", "bike", "kayak", "camera",
+            "tripod", "projector", "mixer", "grill", "lawnmower", "vacuum", "speaker", "guitar", "drone", "scooter"};
+    private static final String[] TRAITS = {"cordless", "heavy duty", "compact", "vintage", "professional",
+            "lightweight", "folding", "electric", "waterproof", "portable"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    DatasetBuilder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long user(String name) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users (name, email) VALUES (?, ?)", new String[]{"id"});
+            ps.setString(1, name);
+            ps.setString(2, name + "@bench.local");
+            return ps;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    /**
+     * Every tenth item is unavailable unless {@code allAvailable} is set.
+     */
+    public List<Long> items(long ownerId, int count, boolean allAvailable) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String tool = TOOLS[i % TOOLS.length];
+            String trait = TRAITS[(i / TOOLS.length) % TRAITS.length];
+            boolean available = allAvailable || i % 10 != 0;
+            rows.add(new Object[]{tool + " " + i, trait + " " + tool + " for rent, item " + i, available, ownerId});
+            if (rows.size() == BATCH_SIZE) {
+                insertItems(rows);
+            }
+        }
+        insertItems(rows);
+        return jdbcTemplate.queryForList("SELECT id FROM items WHERE owner_id = ? ORDER BY id", Long.class, ownerId);
+    }
+
+    public void bookings(List<Long> itemIds, long bookerId, int count, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = now.minusDays(count / 2).plusDays(i);
+            rows.add(new Object[]{
+                    Timestamp.valueOf(start),
+                    Timestamp.valueOf(start.plusHours(12)),
+                    STATUSES[i % STATUSES.length],
+                    itemIds.get(i % itemIds.size()),
+                    bookerId});
+            if (rows.size() == BATCH_SIZE) {
+                insertBookings(rows);
+            }
+        }
+        insertBookings(rows);
+    }
+
+    public void comments(List<Long> itemIds, long authorId, int perItem, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (Long itemId : itemIds) {
+            for (int i = 0; i < perItem; i++) {
+                rows.add(new Object[]{"comment " + i + " on item " + itemId, Timestamp.valueOf(now.minusDays(i)),
+                        itemId, authorId});
+                if (rows.size() == BATCH_SIZE) {
+                    insertComments(rows);
+                }
+            }
+        }
+        insertComments(rows);
+    }
+
+    private void insertItems(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO items (name, description, is_available, owner_id) VALUES (?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void insertBookings(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (start_date, end_date, status, item_id, booker_id) " +
+                "VALUES (?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void insertComments(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO comments (text, created, item_id, author_id) VALUES (?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+}
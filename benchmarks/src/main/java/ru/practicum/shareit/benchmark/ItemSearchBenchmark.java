@@ -0,0 +1,70 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.InvertedIndexItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /items/search through {@link ItemService} with the LIKE query and with the in-process trigram index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ItemSearchBenchmark {
+
+    @Param({"1000000"})
+    private int items;
+
+    @Param({"jpa", "inverted-index"})
+    private String engine;
+
+    @Param({"drill", "waterproof kayak", "item 99999"})
+    private String text;
+
+    private final Pageable page = PageRequest.of(0, 10);
+
+    private ServerContext server;
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = ServerContext.start("--shareit.search.engine=" + engine);
+        DatasetBuilder dataset = server.dataset();
+        dataset.items(dataset.user("owner"), items, false);
+        itemService = server.getBean(ItemService.class);
+        if ("inverted-index".equals(engine)) {
+            server.getBean(InvertedIndexItemSearchEngine.class).warmUp();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public List<ItemDto> search() {
+        return itemService.getItemsBySearch(text, page);
+    }
+}
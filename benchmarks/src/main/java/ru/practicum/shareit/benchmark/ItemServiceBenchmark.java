@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner item reads with their last and next bookings and comments, over a growing booking history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+
+    @Param({"100"})
+    private int ownedItems;
+
+    @Param({"1000", "100000"})
+    private int bookings;
+
+    @Param({"5"})
+    private int commentsPerItem;
+
+    private final Pageable page = PageRequest.of(0, 10);
+
+    private ServerContext server;
+    private ItemService itemService;
+    private long ownerId;
+    private long itemId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = ServerContext.start();
+        DatasetBuilder dataset = server.dataset();
+        ownerId = dataset.user("owner");
+        long bookerId = dataset.user("booker");
+        List<Long> itemIds = dataset.items(ownerId, ownedItems, false);
+        dataset.bookings(itemIds, bookerId, bookings, LocalDateTime.now());
+        dataset.comments(itemIds, bookerId, commentsPerItem, LocalDateTime.now());
+        itemId = itemIds.get(0);
+        itemService = server.getBean(ItemService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public ItemDto getItemById() {
+        return itemService.getItemById(itemId, ownerId);
+    }
+
+    @Benchmark
+    public List<ItemDto> getItemsByUserId() {
+        return itemService.getItemsByUserId(ownerId, page);
+    }
+}
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.dto.mapper.BookingMapper;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.mapper.CommentMapper;
+import ru.practicum.shareit.item.dto.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity and projection to DTO mapping of a response page, without a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    @Param({"0", "5"})
+    private int commentsPerItem;
+
+    private List<Booking> bookings;
+    private List<BookingView> bookingViews;
+    private List<Item> items;
+    private List<Comment> comments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = User.builder().id(1L).name("owner").email("owner@bench.local").build();
+        User booker = User.builder().id(2L).name("booker").email("booker@bench.local").build();
+
+        bookings = new ArrayList<>(size);
+        bookingViews = new ArrayList<>(size);
+        items = new ArrayList<>(size);
+        comments = new ArrayList<>(size * commentsPerItem);
+        for (long i = 0; i < size; i++) {
+            Item item = Item.builder()
+                    .id(i)
+                    .name("drill " + i)
+                    .description("cordless drill for rent, item " + i)
+                    .available(true)
+                    .owner(owner)
+                    .comments(new ArrayList<>(commentsPerItem))
+                    .build();
+            for (long c = 0; c < commentsPerItem; c++) {
+                Comment comment = Comment.builder()
+                        .id(i * commentsPerItem + c)
+                        .text("comment " + c + " on item " + i)
+                        .item(item)
+                        .author(booker)
+                        .created(now.minusDays(c))
+                        .build();
+                item.getComments().add(comment);
+                comments.add(comment);
+            }
+            items.add(item);
+
+            Booking booking = Booking.builder()
+                    .id(i)
+                    .start(now.plusDays(i))
+                    .end(now.plusDays(i).plusHours(12))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build();
+            bookings.add(booking);
+            bookingViews.add(new BookingView(booking.getId(), booking.getStart(), booking.getEnd(),
+                    booking.getStatus(), booker.getId(), booker.getName(), booker.getEmail(), item.getId(),
+                    item.getName(), item.getDescription(), item.getAvailable(), owner.getId()));
+        }
+    }
+
+    @Benchmark
+    public List<BookingDto> bookingEntities() {
+        return BookingMapper.responseDtoListOf(bookings);
+    }
+
+    @Benchmark
+    public List<BookingDto> bookingViews() {
+        return BookingMapper.responseDtoListOfViews(bookingViews);
+    }
+
+    @Benchmark
+    public List<ItemDto> items() {
+        return items.stream().map(ItemMapper::toItemDto).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<CommentDto> comments() {
+        return CommentMapper.listOfComments(comments);
+    }
+}
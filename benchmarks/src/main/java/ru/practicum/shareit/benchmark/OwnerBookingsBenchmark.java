@@ -0,0 +1,74 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.BookingCursor;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.dto.BookingDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owner booking lists with a fixed number of bookings spread over a growing number of owned items.
+ * Latency should stay flat as {@code ownedItems} grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OwnerBookingsBenchmark {
+
+    @Param({"10", "1000", "10000", "50000"})
+    private int ownedItems;
+
+    @Param({"500"})
+    private int bookings;
+
+    @Param({"ALL", "FUTURE", "WAITING"})
+    private BookingState state;
+
+    private final Pageable page = PageRequest.of(0, 10);
+
+    private ServerContext server;
+    private BookingService bookingService;
+    private long ownerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = ServerContext.start();
+        DatasetBuilder dataset = server.dataset();
+        ownerId = dataset.user("owner");
+        long bookerId = dataset.user("booker");
+        List<Long> itemIds = dataset.items(ownerId, ownedItems, false);
+        dataset.bookings(itemIds, bookerId, bookings, LocalDateTime.now());
+        bookingService = server.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public List<BookingDto> getAllByOwner() {
+        return bookingService.getAllByOwner(ownerId, state, BookingCursor.FIRST, page);
+    }
+}
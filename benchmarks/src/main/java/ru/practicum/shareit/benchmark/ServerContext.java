@@ -0,0 +1,50 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public final class ServerContext implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+
+    private ServerContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static ServerContext start(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--shareit.index-report.enabled=false",
+                "--shareit.sql-budget.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(Arrays.asList(extraArgs));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(new String[0]));
+        return new ServerContext(context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public DatasetBuilder dataset() {
+        return new DatasetBuilder(getBean(JdbcTemplate.class));
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
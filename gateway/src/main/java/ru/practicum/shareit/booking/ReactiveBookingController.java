@@ -0,0 +1,78 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.utils.HttpHeaders;
+
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> create(@Valid @RequestBody BookingRequestDto bookingRequestDto,
+                                               @RequestHeader(HttpHeaders.USER_ID) Long userId) {
+        log.info("Creating booking by user id {}", userId);
+        bookingRequestDto.setId(userId);
+        return bookingClient.create(userId, bookingRequestDto);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<Object>> approve(@PathVariable Long bookingId,
+                                                @RequestHeader(HttpHeaders.USER_ID) Long userId,
+                                                @RequestParam Boolean approved) {
+        if (approved) {
+            log.info("Approved booking id {} by user id {}", bookingId, userId);
+        }
+        return bookingClient.approve(bookingId, userId, approved);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Object>> getBooking(@PathVariable Long bookingId,
+                                                   @RequestHeader(HttpHeaders.USER_ID) Long userId) {
+        log.info("Get booking {}, userId={}", bookingId, userId);
+        return bookingClient.getBooking(userId, bookingId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getBookings(@RequestHeader(HttpHeaders.USER_ID) long userId,
+                                                    @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                    @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                    @RequestParam(name = "cursor", required = false) String cursor) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new BadRequestException("Unknown state: " + stateParam));
+        log.info("Get booking with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size, cursor);
+        return bookingClient.getBookings(userId, state, from, size, cursor);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Object>> getAllByOwner(@RequestHeader(HttpHeaders.USER_ID) long userId,
+                                                      @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                      @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                      @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                      @RequestParam(name = "cursor", required = false) String cursor) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new BadRequestException("Unknown state: " + stateParam));
+        log.info("Getting all owner bookings", state, userId);
+        return bookingClient.getAllByOwner(userId, state, from, size, cursor);
+    }
+}
\ No newline at end of file
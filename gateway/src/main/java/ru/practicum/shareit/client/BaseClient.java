@@ -1,24 +1,52 @@
 package ru.practicum.shareit.client;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 import static ru.practicum.shareit.utils.HttpHeaders.USER_ID;
 
 public class BaseClient {
-    protected final RestTemplate rest;
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-authenticate",
+            "proxy-authorization", "te", "trailer", "transfer-encoding", "upgrade", "content-length");
 
-    public BaseClient(RestTemplate rest) {
+    protected final RestTemplate rest;
+    private final ResponseCache responseCache;
+    @Nullable
+    private final String cacheRegion;
+    private final String[] invalidatedRegions;
+    private final RequestCoalescer<ResponseEntity<Object>> coalescer = new RequestCoalescer<>();
+
+    @Value("${shareit-server.pass-through:true}")
+    private boolean passThrough;
+
+    @Value("${shareit-server.coalesce-reads:true}")
+    private boolean coalesceReads;
+
+    /**
+     * @param cacheRegion        region GET responses are cached in, or {@code null} to leave them uncached
+     * @param invalidatedRegions regions whose cached responses a proxied write may change
+     */
+    public BaseClient(RestTemplate rest, ResponseCache responseCache, @Nullable String cacheRegion,
+                      String... invalidatedRegions) {
         this.rest = rest;
+        this.responseCache = responseCache;
+        this.cacheRegion = cacheRegion;
+        this.invalidatedRegions = invalidatedRegions;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -81,15 +109,51 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    protected void stream(String path, MediaType mediaType, OutputStream out) {
+        rest.execute(path, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(mediaType)),
+                response -> StreamUtils.copy(response.getBody(), out));
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        if (method != HttpMethod.GET) {
+            try {
+                return send(method, path, userId, parameters, body);
+            } finally {
+                responseCache.invalidate(invalidatedRegions);
+            }
+        }
+        String key = ResponseCache.key(path, userId, parameters);
+        if (cacheRegion == null) {
+            return coalesce(key, () -> send(method, path, userId, parameters, body));
+        }
+
+        ResponseCache.Region region = responseCache.region(cacheRegion);
+        ResponseEntity<Object> cached = region.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return coalesce(key, () -> {
+            long version = region.version();
+            ResponseEntity<Object> response = send(method, path, userId, parameters, body);
+            region.put(key, version, response);
+            return response;
+        });
+    }
+
+    private ResponseEntity<Object> coalesce(String key, Supplier<ResponseEntity<Object>> call) {
+        return coalesceReads ? coalescer.execute(key, call) : call.get();
+    }
+
+    private <T> ResponseEntity<Object> send(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
         ResponseEntity<Object> shareitServerResponse;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+            if (passThrough) {
+                shareitServerResponse = toPassThroughResponse(exchange(method, path, requestEntity, byte[].class, parameters));
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = exchange(method, path, requestEntity, Object.class, parameters);
             }
         } catch (HttpStatusCodeException e) {
             return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
@@ -97,6 +161,28 @@ public class BaseClient {
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    private <T, R> ResponseEntity<R> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                              Class<R> responseType, @Nullable Map<String, Object> parameters) {
+        if (parameters != null) {
+            return rest.exchange(path, method, requestEntity, responseType, parameters);
+        }
+        return rest.exchange(path, method, requestEntity, responseType);
+    }
+
+    private static ResponseEntity<Object> toPassThroughResponse(ResponseEntity<byte[]> response) {
+        return new ResponseEntity<>(response.getBody(), endToEndHeaders(response.getHeaders()), response.getStatusCode());
+    }
+
+    static HttpHeaders endToEndHeaders(HttpHeaders upstreamHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        upstreamHeaders.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, values);
+            }
+        });
+        return headers;
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
+
+/**
+ * Matches servlet and non-web contexts, where the blocking {@link BaseClient} transport is used.
+ */
+public class NotReactiveWebApplicationCondition extends NoneNestedConditions {
+
+    NotReactiveWebApplicationCondition() {
+        super(ConfigurationPhase.PARSE_CONFIGURATION);
+    }
+
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveWebApplication {
+    }
+}
@@ -0,0 +1,156 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static ru.practicum.shareit.utils.HttpHeaders.USER_ID;
+
+/**
+ * Non-blocking counterpart of {@link BaseClient} for the reactive gateway mode.
+ * Responses are relayed as raw bytes with the same status and header rules as the pass-through mode.
+ */
+public class ReactiveBaseClient {
+    protected final WebClient webClient;
+    private final ResponseCache responseCache;
+    @Nullable
+    private final String cacheRegion;
+    private final String[] invalidatedRegions;
+    private final RequestCoalescer<ResponseEntity<Object>> coalescer = new RequestCoalescer<>();
+
+    @Value("${shareit-server.coalesce-reads:true}")
+    private boolean coalesceReads;
+
+    /**
+     * @param cacheRegion        region GET responses are cached in, or {@code null} to leave them uncached
+     * @param invalidatedRegions regions whose cached responses a proxied write may change
+     */
+    public ReactiveBaseClient(WebClient webClient, ResponseCache responseCache, @Nullable String cacheRegion,
+                              String... invalidatedRegions) {
+        this.webClient = webClient;
+        this.responseCache = responseCache;
+        this.cacheRegion = cacheRegion;
+        this.invalidatedRegions = invalidatedRegions;
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, long userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
+        return post(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, long userId, T body) {
+        return post(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
+        return patch(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId, T body) {
+        return patch(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<Object>> delete(String path) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, null, null, null);
+    }
+
+    protected Flux<DataBuffer> stream(String path, MediaType mediaType) {
+        return webClient.get()
+                .uri(path)
+                .accept(mediaType)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+    }
+
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        if (method != HttpMethod.GET) {
+            return send(method, path, userId, parameters, body)
+                    .doFinally(signal -> responseCache.invalidate(invalidatedRegions));
+        }
+        String key = ResponseCache.key(path, userId, parameters);
+        if (cacheRegion == null) {
+            return coalesce(key, () -> send(method, path, userId, parameters, body));
+        }
+
+        ResponseCache.Region region = responseCache.region(cacheRegion);
+        return Mono.defer(() -> {
+            ResponseEntity<Object> cached = region.get(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return coalesce(key, () -> {
+                long version = region.version();
+                return send(method, path, userId, parameters, body)
+                        .doOnNext(response -> region.put(key, version, response));
+            });
+        });
+    }
+
+    private Mono<ResponseEntity<Object>> coalesce(String key, Supplier<Mono<ResponseEntity<Object>>> call) {
+        return coalesceReads ? coalescer.executeAsync(key, call) : Mono.defer(call);
+    }
+
+    private <T> Mono<ResponseEntity<Object>> send(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> defaultHeaders(headers, userId));
+        WebClient.RequestHeadersSpec<?> spec = body != null ? request.bodyValue(body) : request;
+        return spec.exchangeToMono(response -> response.bodyToMono(byte[].class)
+                .map(responseBody -> prepareGatewayResponse(response, responseBody))
+                .switchIfEmpty(Mono.fromSupplier(() -> prepareGatewayResponse(response, null))));
+    }
+
+    private static void defaultHeaders(HttpHeaders headers, Long userId) {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set(USER_ID, String.valueOf(userId));
+        }
+    }
+
+    private static ResponseEntity<Object> prepareGatewayResponse(ClientResponse response, @Nullable byte[] body) {
+        if (response.statusCode().is2xxSuccessful()) {
+            return new ResponseEntity<>(body, BaseClient.endToEndHeaders(response.headers().asHttpHeaders()),
+                    response.statusCode());
+        }
+
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.statusCode());
+
+        if (body != null) {
+            return responseBuilder.body(body);
+        }
+
+        return responseBuilder.build();
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.client;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for identical reads: while a call for a key is in flight, later callers with the same key
+ * wait for its result instead of making their own upstream call.
+ * Keys are scoped by the caller ({@link ResponseCache#key}), so responses that differ per user are never shared.
+ */
+class RequestCoalescer<T> {
+    private final ConcurrentHashMap<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    T execute(String key, Supplier<T> call) {
+        CompletableFuture<T> own = new CompletableFuture<>();
+        CompletableFuture<T> leader = inFlight.putIfAbsent(key, own);
+        if (leader != null) {
+            return join(leader);
+        }
+        try {
+            T result = call.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * The upstream call is subscribed once, independently of its callers,
+     * so one caller cancelling (e.g. a dropped connection) does not fail the others.
+     */
+    Mono<T> executeAsync(String key, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            CompletableFuture<T> own = new CompletableFuture<>();
+            CompletableFuture<T> leader = inFlight.putIfAbsent(key, own);
+            if (leader != null) {
+                return Mono.fromFuture(leader.copy());
+            }
+            call.get()
+                    .doFinally(signal -> inFlight.remove(key, own))
+                    .subscribe(own::complete, own::completeExceptionally, () -> own.complete(null));
+            return Mono.fromFuture(own.copy());
+        });
+    }
+
+    private static <T> T join(CompletableFuture<T> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
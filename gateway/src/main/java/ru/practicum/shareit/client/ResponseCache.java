@@ -0,0 +1,108 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, short-lived cache of successful GET responses from shareit-server, with one region per resource.
+ * Clients invalidate whole regions when they proxy a write, so a cached read is never older than the last write
+ * that went through this gateway, and otherwise never older than {@code shareit-server.cache.ttl}. Writes through
+ * another gateway or straight to the server are only seen after that, so the cache is off unless
+ * {@code shareit-server.cache.enabled} is set.
+ * Hits and misses are published as {@code cache.gets} with a {@code cache=shareit-server.<region>} tag.
+ */
+public class ResponseCache {
+    public static final String ITEMS = "items";
+    public static final String USERS = "users";
+    public static final String REQUESTS = "requests";
+
+    private static final DefaultUriBuilderFactory KEY_URIS = new DefaultUriBuilderFactory();
+
+    private final ResponseCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Region region(String name) {
+        return regions.computeIfAbsent(name, this::createRegion);
+    }
+
+    public void invalidate(String... names) {
+        for (String name : names) {
+            region(name).invalidate();
+        }
+    }
+
+    /**
+     * Key of a response: the expanded path and query, plus the caller when the request carried {@code X-Sharer-User-Id}.
+     */
+    public static String key(String path, @Nullable Long userId, @Nullable Map<String, ?> parameters) {
+        String uri = KEY_URIS.expand(path, parameters != null ? parameters : Map.of()).toString();
+        return userId != null ? uri + "#" + userId : uri;
+    }
+
+    private Region createRegion(String name) {
+        Cache<String, ResponseEntity<Object>> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "shareit-server." + name);
+        return new Region(cache, properties.isEnabled());
+    }
+
+    public static final class Region {
+        private final Cache<String, ResponseEntity<Object>> cache;
+        private final boolean enabled;
+        private final AtomicLong version = new AtomicLong();
+
+        private Region(Cache<String, ResponseEntity<Object>> cache, boolean enabled) {
+            this.cache = cache;
+            this.enabled = enabled;
+        }
+
+        @Nullable
+        public ResponseEntity<Object> get(String key) {
+            return enabled ? cache.getIfPresent(key) : null;
+        }
+
+        /**
+         * Version to pass to {@link #put}; read it before calling shareit-server.
+         */
+        public long version() {
+            return version.get();
+        }
+
+        /**
+         * Caches a successful response unless the region was invalidated since {@code version} was read,
+         * so a read that raced with a write cannot put the pre-write state back.
+         */
+        public void put(String key, long version, ResponseEntity<Object> response) {
+            if (!enabled || !response.getStatusCode().is2xxSuccessful()) {
+                return;
+            }
+            cache.put(key, response);
+            if (this.version.get() != version) {
+                cache.invalidate(key);
+            }
+        }
+
+        public void invalidate() {
+            version.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemDtoMarker;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                              ResponseCache responseCache) {
+        super(
+                builder.baseUrl(serverUrl + API_PREFIX).build(),
+                responseCache,
+                ResponseCache.ITEMS,
+                ResponseCache.ITEMS,
+                ResponseCache.REQUESTS
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> create(long userId, ItemDtoMarker itemDto) {
+        return post("", userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<Object>> update(long itemId, ItemDtoMarker itemRequestDto, long userId) {
+        return patch("/" + itemId, userId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getItem(long itemId, long userId) {
+        return get("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getUserItems(long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> search(String text, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return get("/search?text={text}&from={from}&size={size}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getAvailability(long itemId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> postComment(long userId, long itemId, CommentRequestDto commentRequestDto) {
+        return post("/" + itemId + "/comment", userId, commentRequestDto);
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemDtoMarker;
+import ru.practicum.shareit.utils.HttpHeaders;
+import ru.practicum.shareit.utils.Marker;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/items")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> createItem(@Validated(Marker.Create.class)
+                                                   @RequestBody ItemDtoMarker itemDto,
+                                                   @RequestHeader(HttpHeaders.USER_ID) long userId) {
+        log.info("Creating item {}", itemDto);
+        return itemClient.create(userId, itemDto);
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> updateItem(@PathVariable long itemId,
+                                                   @Validated(Marker.Update.class)
+                                                   @RequestBody ItemDtoMarker itemRequestDto,
+                                                   @RequestHeader(HttpHeaders.USER_ID) long userId) {
+        log.info("Update item id {}", itemId);
+        return itemClient.update(itemId, itemRequestDto, userId);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<Object>> getItem(@PathVariable long itemId,
+                                                @RequestHeader(HttpHeaders.USER_ID) long userId) {
+        log.info("Get item id {}", itemId);
+        return itemClient.getItem(itemId, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getUserItems(@RequestHeader(HttpHeaders.USER_ID) long userId) {
+        log.info("Get user {} items", userId);
+        return itemClient.getUserItems(userId);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Object>> searchItem(@PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                   @Positive @RequestParam(defaultValue = "10") Integer size,
+                                                   @RequestParam String text) {
+        log.info("Getting items by search text: {}", text);
+        if (text.isBlank()) {
+            return Mono.just(ResponseEntity.ok(List.of()));
+        } else {
+            return itemClient.search(text, from, size);
+        }
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Object>> getAvailability(@PathVariable long itemId,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Get availability of item id {} from {} to {}", itemId, from, to);
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Availability range start must be before its end");
+        }
+        return itemClient.getAvailability(itemId, from, to);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Object>> postComment(@RequestHeader(HttpHeaders.USER_ID) long userId,
+                                                    @PathVariable long itemId,
+                                                    @Valid @RequestBody CommentRequestDto commentRequestDto) {
+        log.info("Post comment userid {} itemid {}", userId, itemId);
+        return itemClient.postComment(userId, itemId, commentRequestDto);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/requests";
+
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                                     ResponseCache responseCache) {
+        super(
+                builder.baseUrl(serverUrl + API_PREFIX).build(),
+                responseCache,
+                ResponseCache.REQUESTS,
+                ResponseCache.REQUESTS
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> getAllRequests(long userId, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size);
+        return get("/all?from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> createRequest(long userId, ItemRequestDto requestDto) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getUserRequests(long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemRequest(Long requestId, long userId) {
+        return get("/" + requestId, userId);
+    }
+}
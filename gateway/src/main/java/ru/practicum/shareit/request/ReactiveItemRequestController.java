@@ -0,0 +1,54 @@
+package ru.practicum.shareit.request;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.utils.HttpHeaders;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/requests")
+@Validated
+public class ReactiveItemRequestController {
+    private final ReactiveItemRequestClient itemRequestClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> createItemRequest(@RequestHeader(HttpHeaders.USER_ID) long userId,
+                                                          @Valid @RequestBody ItemRequestDto itemRequestDto) {
+        log.info("Creating item request from user id {}", userId);
+        return itemRequestClient.createRequest(userId, itemRequestDto);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getUserRequests(@RequestHeader(HttpHeaders.USER_ID) long userId) {
+        log.info("Getting all user requests user id {}", userId);
+        return itemRequestClient.getUserRequests(userId);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Object>> getAllRequests(@RequestHeader(HttpHeaders.USER_ID) long userId,
+                                                       @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                       @Positive @RequestParam(defaultValue = "10") Integer size) {
+        log.info("Getting all requests user id {} from {} size {}", userId, from, size);
+        return itemRequestClient.getAllRequests(userId, from, size);
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<Object>> getItemRequest(@PathVariable Long requestId,
+                                                       @RequestHeader(HttpHeaders.USER_ID) Long userId) {
+        log.info("Get item request {}", requestId);
+        return itemRequestClient.getItemRequest(requestId, userId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/users";
+
+    public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                              ResponseCache responseCache) {
+        super(
+                builder.baseUrl(serverUrl + API_PREFIX).build(),
+                responseCache,
+                ResponseCache.USERS,
+                ResponseCache.USERS,
+                ResponseCache.ITEMS,
+                ResponseCache.REQUESTS
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> createUser(UserDto userDto) {
+        return post("", userDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getUserById(long userId) {
+        return get("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Object>> updateUser(long userId, UserDto userDto) {
+        return patch("/" + userId, userDto);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteUser(long userId) {
+        return delete("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllUsers(Long cursor, Integer size) {
+        if (cursor == null && size == null) {
+            return get("");
+        }
+        Map<String, Object> parameters = new HashMap<>();
+        StringJoiner query = new StringJoiner("&", "?", "");
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query.add("cursor={cursor}");
+        }
+        if (size != null) {
+            parameters.put("size", size);
+            query.add("size={size}");
+        }
+        return get(query.toString(), null, parameters);
+    }
+
+    public Flux<DataBuffer> streamAllUsers() {
+        return stream("", MediaType.APPLICATION_NDJSON);
+    }
+}
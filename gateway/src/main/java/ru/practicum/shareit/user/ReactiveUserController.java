@@ -0,0 +1,68 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.utils.Marker;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveUserController {
+    private final ReactiveUserClient userClient;
+
+    @PostMapping()
+    public Mono<ResponseEntity<Object>> createUser(@Validated(Marker.Create.class) @RequestBody UserDto userDto) {
+        log.info("Creating user: {}", userDto);
+        return userClient.createUser(userDto);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllUsers(@PositiveOrZero @RequestParam(required = false) Long cursor,
+                                                    @Positive @RequestParam(required = false) Integer size) {
+        log.info("Getting users after id: {}", cursor);
+        return userClient.getAllUsers(cursor, size);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DataBuffer> streamAllUsers() {
+        log.info("Streaming all users");
+        return userClient.streamAllUsers();
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> getUserById(@PathVariable long userId) {
+        log.info("Getting user by id: {}", userId);
+        return userClient.getUserById(userId);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> updateUser(@PathVariable long userId,
+                                                   @Validated(Marker.Update.class) @Valid @RequestBody UserDto userDto) {
+        log.info("Updating user by id: {}", userId);
+        return userClient.updateUser(userId, userDto);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<Object>> deleteUser(@PathVariable long userId) {
+        log.info("Deleting user by id : {}", userId);
+        return userClient.deleteUser(userId);
+    }
+}
\ No newline at end of file
@@ -3,24 +3,40 @@ package ru.practicum.shareit.user;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.NotReactiveWebApplicationCondition;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
 @Service
+@Conditional(NotReactiveWebApplicationCondition.class)
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      HttpComponentsClientHttpRequestFactory requestFactory, ResponseCache responseCache) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                responseCache,
+                ResponseCache.USERS,
+                ResponseCache.USERS,
+                ResponseCache.ITEMS,
+                ResponseCache.REQUESTS
         );
     }
 
@@ -40,7 +56,24 @@ public class UserClient extends BaseClient {
         return delete("/" + userId);
     }
 
-    public ResponseEntity<Object> getAllUsers() {
-        return get("");
+    public ResponseEntity<Object> getAllUsers(Long cursor, Integer size) {
+        if (cursor == null && size == null) {
+            return get("");
+        }
+        Map<String, Object> parameters = new HashMap<>();
+        StringJoiner query = new StringJoiner("&", "?", "");
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+            query.add("cursor={cursor}");
+        }
+        if (size != null) {
+            parameters.put("size", size);
+            query.add("size={size}");
+        }
+        return get(query.toString(), null, parameters);
+    }
+
+    public void streamAllUsers(OutputStream out) {
+        stream("", MediaType.APPLICATION_NDJSON, out);
     }
 }
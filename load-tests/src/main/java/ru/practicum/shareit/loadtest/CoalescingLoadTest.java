@@ -0,0 +1,55 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A trending search under a closed-loop load, with and without single-flight read coalescing in the gateway.
+ * Every client sends the same {@code /items/search} request; the stub counts how many of them reach it.
+ * The response cache is off, so coalescing is the only thing that can save upstream calls.
+ * <p>
+ * Settings are read from system properties: {@code concurrency}, {@code duration}, {@code warmup}
+ * and {@code stub.delay} (e.g. {@code 30s}, {@code 50ms}).
+ */
+public class CoalescingLoadTest {
+
+    public static void main(String[] args) {
+        int concurrency = Integer.parseInt(System.getProperty("concurrency", "200"));
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("warmup", "10s"));
+        Duration delay = DurationStyle.detectAndParse(System.getProperty("stub.delay", "20ms"));
+
+        List<String> lines = new ArrayList<>();
+        try (StubServer stub = StubServer.start(concurrency + 16)
+                .delay(delay)
+                .respond("/items/search", Payloads.items(10));
+             LoadDriver driver = new LoadDriver()) {
+            for (boolean coalesce : new boolean[]{false, true}) {
+                try (GatewayContext gateway = GatewayContext.start(WebApplicationType.SERVLET, stub.url(),
+                        "--shareit-server.cache.enabled=false",
+                        "--shareit-server.coalesce-reads=" + coalesce,
+                        "--server.tomcat.threads.max=" + concurrency,
+                        "--shareit-server.http.max-total=" + concurrency,
+                        "--shareit-server.http.max-per-route=" + concurrency)) {
+                    String gatewayUrl = gateway.url();
+                    Supplier<HttpRequest> search = () -> LoadDriver.get(gatewayUrl,
+                            "/items/search?text=drill&from=0&size=10", 1).build();
+                    driver.run("warmup", search, concurrency, warmup);
+                    long upstreamBefore = stub.requests();
+                    LoadReport report = driver.run((coalesce ? "coalesced" : "direct") + " x" + concurrency,
+                            search, concurrency, duration);
+                    lines.add(String.format("%s %10d", report, stub.requests() - upstreamBefore));
+                }
+            }
+        }
+
+        System.out.println(LoadReport.header() + String.format(" %10s", "upstream"));
+        lines.forEach(System.out::println);
+    }
+}
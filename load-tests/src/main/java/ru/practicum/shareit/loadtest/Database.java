@@ -0,0 +1,76 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Database shared by the server process and {@link SkewedDataset}: a fresh H2 file database opened in
+ * auto-server mode, so both JVMs can use it, or an existing PostgreSQL database that must be empty.
+ */
+public final class Database {
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String driverClassName;
+    private final String dialect;
+
+    private Database(String url, String username, String password, String driverClassName, String dialect) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.driverClassName = driverClassName;
+        this.dialect = dialect;
+    }
+
+    public static Database h2() {
+        try {
+            String file = Files.createTempDirectory("shareit-load-test").resolve("shareit").toString();
+            return new Database("jdbc:h2:file:" + file + ";AUTO_SERVER=TRUE", "sa", "", "org.h2.Driver",
+                    "org.hibernate.dialect.H2Dialect");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Database postgres(String url, String username, String password) {
+        return new Database(url, username, password, "org.postgresql.Driver",
+                "org.hibernate.dialect.PostgreSQL10Dialect");
+    }
+
+    public static Database fromSystemProperties() {
+        String db = System.getProperty("db", "h2");
+        switch (db) {
+            case "h2":
+                return h2();
+            case "postgres":
+                return postgres(System.getProperty("db.url", "jdbc:postgresql://localhost:5432/shareit"),
+                        System.getProperty("db.username", "shareit"),
+                        System.getProperty("db.password", "shareit"));
+            default:
+                throw new IllegalArgumentException("Unknown db: " + db + "; expected h2 or postgres");
+        }
+    }
+
+    public List<String> serverArgs() {
+        return List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.driverClassName=" + driverClassName,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--spring.jpa.properties.hibernate.dialect=" + dialect);
+    }
+
+    public Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    @Override
+    public String toString() {
+        return url;
+    }
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItGateway;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class GatewayContext implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+
+    private GatewayContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static GatewayContext start(WebApplicationType type, String serverUrl, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--shareit-server.url=" + serverUrl,
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web.client.RestTemplate=WARN"));
+        args.addAll(Arrays.asList(extraArgs));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItGateway.class)
+                .web(type)
+                .run(args.toArray(new String[0]));
+        return new GatewayContext(context);
+    }
+
+    public String url() {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.ClassUtils;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Servlet versus reactive gateway under a closed-loop load against a stub server with a fixed response delay.
+ * With the delay standing in for server work, throughput of the servlet mode is capped by Tomcat's thread pool,
+ * while the reactive mode should keep scaling with concurrency.
+ * The {@code virtual} mode runs the servlet gateway on virtual threads and needs a build with
+ * the {@code virtual-threads} profile; it should scale past the Tomcat ceiling without changing the blocking code.
+ * The gateway's connection pool is sized to the highest concurrency, so it does not become the ceiling instead,
+ * and its response cache and read coalescing are off, so every request reaches the stub.
+ * <p>
+ * Settings are read from system properties: {@code modes} (servlet,virtual,reactive),
+ * {@code concurrency} (comma-separated), {@code duration}, {@code warmup} and {@code stub.delay}
+ * (e.g. {@code 30s}, {@code 50ms}).
+ */
+public class GatewayLoadTest {
+
+    private static final String VIRTUAL_THREADS_CONFIG = "ru.practicum.shareit.config.VirtualThreadsConfig";
+
+    public static void main(String[] args) {
+        String[] modes = System.getProperty("modes", "servlet,reactive").split(",");
+        String[] concurrencyLevels = System.getProperty("concurrency", "100,500,2000").split(",");
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("warmup", "10s"));
+        Duration delay = DurationStyle.detectAndParse(System.getProperty("stub.delay", "50ms"));
+        int maxConcurrency = 0;
+        for (String level : concurrencyLevels) {
+            maxConcurrency = Math.max(maxConcurrency, Integer.parseInt(level.trim()));
+        }
+
+        List<LoadReport> reports = new ArrayList<>();
+        try (StubServer stub = StubServer.start(maxConcurrency + 16)
+                .delay(delay)
+                .respond("/items/search", Payloads.items(10));
+             LoadDriver driver = new LoadDriver()) {
+            for (String mode : modes) {
+                boolean virtual = "virtual".equals(mode.trim());
+                if (virtual && !ClassUtils.isPresent(VIRTUAL_THREADS_CONFIG, null)) {
+                    throw new IllegalStateException("The virtual mode needs a build with -Pvirtual-threads");
+                }
+                WebApplicationType type = virtual
+                        ? WebApplicationType.SERVLET
+                        : WebApplicationType.valueOf(mode.trim().toUpperCase());
+                try (GatewayContext gateway = GatewayContext.start(type, stub.url(),
+                        "--shareit.virtual-threads.enabled=" + virtual,
+                        "--shareit-server.cache.enabled=false",
+                        "--shareit-server.coalesce-reads=false",
+                        "--shareit-server.http.max-total=" + maxConcurrency,
+                        "--shareit-server.http.max-per-route=" + maxConcurrency)) {
+                    String gatewayUrl = gateway.url();
+                    Supplier<HttpRequest> search = () -> LoadDriver.get(gatewayUrl,
+                            "/items/search?text=drill&from=0&size=10", ThreadLocalRandom.current().nextInt(1, 1000)).build();
+                    driver.run("warmup", search, maxConcurrency, warmup);
+                    for (String level : concurrencyLevels) {
+                        int concurrency = Integer.parseInt(level.trim());
+                        reports.add(driver.run(mode.trim() + " x" + concurrency, search, concurrency, duration));
+                    }
+                }
+            }
+        }
+
+        System.out.println(LoadReport.header());
+        reports.forEach(System.out::println);
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator: a fixed number of virtual users, each sending its next request
+ * as soon as the previous one completes, with latencies recorded in an HdrHistogram.
+ */
+public final class LoadDriver implements AutoCloseable {
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(executor)
+            .build();
+
+    public LoadReport run(String name, Supplier<HttpRequest> requests, int concurrency, Duration duration) {
+        return run(name, TrafficMix.of(name, requests), concurrency, duration).get(0);
+    }
+
+    /**
+     * Runs a mix of endpoints and reports each of them separately, followed by the whole mix when it has
+     * more than one endpoint. Throughput of an endpoint is its share of the requests over the whole run.
+     */
+    public List<LoadReport> run(String name, TrafficMix mix, int concurrency, Duration duration) {
+        Histogram[] latencies = new Histogram[mix.size()];
+        AtomicLong[] errors = new AtomicLong[mix.size()];
+        for (int i = 0; i < mix.size(); i++) {
+            latencies[i] = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+            errors[i] = new AtomicLong();
+        }
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + duration.toNanos();
+
+        CompletableFuture<?>[] users = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            CompletableFuture<Void> user = new CompletableFuture<>();
+            next(mix, deadline, latencies, errors, user);
+            users[i] = user;
+        }
+        CompletableFuture.allOf(users).join();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        if (mix.size() == 1) {
+            return List.of(new LoadReport(name, elapsedNanos, latencies[0], errors[0].get()));
+        }
+        List<LoadReport> reports = new ArrayList<>();
+        Histogram total = new Histogram(MAX_LATENCY_NANOS, 3);
+        long totalErrors = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            reports.add(new LoadReport(name + " " + mix.name(i), elapsedNanos, latencies[i], errors[i].get()));
+            total.add(latencies[i]);
+            totalErrors += errors[i].get();
+        }
+        reports.add(new LoadReport(name + " total", elapsedNanos, total, totalErrors));
+        return reports;
+    }
+
+    private void next(TrafficMix mix, long deadline, Histogram[] latencies, AtomicLong[] errors,
+                      CompletableFuture<Void> user) {
+        if (System.nanoTime() >= deadline) {
+            user.complete(null);
+            return;
+        }
+        int endpoint = mix.pick();
+        long sentAt = System.nanoTime();
+        client.sendAsync(mix.request(endpoint), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    latencies[endpoint].recordValue(Math.min(System.nanoTime() - sentAt, MAX_LATENCY_NANOS));
+                    if (error != null || response.statusCode() >= 500) {
+                        errors[endpoint].incrementAndGet();
+                    }
+                    next(mix, deadline, latencies, errors, user);
+                });
+    }
+
+    public static HttpRequest.Builder get(String baseUrl, String path, long userId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+public final class LoadReport {
+    private final String name;
+    private final long elapsedNanos;
+    private final Histogram latencies;
+    private final long errors;
+
+    LoadReport(String name, long elapsedNanos, Histogram latencies, long errors) {
+        this.name = name;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+        this.errors = errors;
+    }
+
+    public static String header() {
+        return String.format("%-32s %10s %10s %8s %9s %9s %9s %9s %9s",
+                "scenario", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    public double throughput() {
+        return latencies.getTotalCount() / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-32s %10d %10.0f %8d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                name, latencies.getTotalCount(), throughput(), errors,
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.loadtest;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mixed read traffic through the gateway against a real server on a seeded {@link SkewedDataset}, reported per
+ * endpoint: 40% {@code /items/search}, 30% {@code /items/{id}} on hot items, 20% {@code /bookings/owner} mostly
+ * for mega-owners and 10% {@code /requests/all}. The gateway's response cache is off unless {@code gateway.cache}
+ * is set, so every request reaches the server and its database.
+ * <p>
+ * Settings are read from system properties: {@code db} (h2 or postgres, with {@code db.url}, {@code db.username}
+ * and {@code db.password}), {@code server.jar}, {@code server.jvmArgs}, {@code gateway.mode} (servlet or reactive),
+ * the dataset sizes of {@link SkewedDataset.Settings}, {@code concurrency} (comma-separated), {@code duration}
+ * and {@code warmup}.
+ */
+public class MixedTrafficLoadTest {
+
+    public static void main(String[] args) {
+        Path serverJar = Path.of(System.getProperty("server.jar"));
+        List<String> serverJvmArgs = Arrays.asList(System.getProperty("server.jvmArgs", "-Xmx2g").split(" "));
+        WebApplicationType gatewayMode = WebApplicationType.valueOf(
+                System.getProperty("gateway.mode", "servlet").toUpperCase());
+        String[] concurrencyLevels = System.getProperty("concurrency", "50,200").split(",");
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("duration", "60s"));
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("warmup", "15s"));
+        int maxConcurrency = 0;
+        for (String level : concurrencyLevels) {
+            maxConcurrency = Math.max(maxConcurrency, Integer.parseInt(level.trim()));
+        }
+
+        Database database = Database.fromSystemProperties();
+        List<LoadReport> reports = new ArrayList<>();
+        try (ServerProcess server = ServerProcess.start(serverJar, serverJvmArgs,
+                database.serverArgs().toArray(new String[0]))) {
+            long seedingStartedAt = System.nanoTime();
+            SkewedDataset dataset = SkewedDataset.seed(database, SkewedDataset.Settings.fromSystemProperties());
+            System.out.printf("Seeded %s into %s in %d s%n", dataset, database,
+                    Duration.ofNanos(System.nanoTime() - seedingStartedAt).toSeconds());
+
+            try (GatewayContext gateway = GatewayContext.start(gatewayMode, server.url(),
+                    "--shareit-server.cache.enabled=" + Boolean.getBoolean("gateway.cache"),
+                    "--shareit-server.http.max-total=" + maxConcurrency,
+                    "--shareit-server.http.max-per-route=" + maxConcurrency);
+                 LoadDriver driver = new LoadDriver()) {
+                String gatewayUrl = gateway.url();
+                TrafficMix mix = new TrafficMix()
+                        .add("/items/search", 40, () -> LoadDriver.get(gatewayUrl,
+                                "/items/search?text=" + dataset.searchText() + "&from=0&size=10",
+                                dataset.randomUser()).build())
+                        .add("/items/{id}", 30, () -> LoadDriver.get(gatewayUrl,
+                                "/items/" + dataset.skewedItem(), dataset.randomUser()).build())
+                        .add("/bookings/owner", 20, () -> LoadDriver.get(gatewayUrl,
+                                "/bookings/owner?state=ALL&from=0&size=10", dataset.skewedOwner()).build())
+                        .add("/requests/all", 10, () -> LoadDriver.get(gatewayUrl,
+                                "/requests/all?from=0&size=10", dataset.randomUser()).build());
+                driver.run("warmup", mix, maxConcurrency, warmup);
+                for (String level : concurrencyLevels) {
+                    int concurrency = Integer.parseInt(level.trim());
+                    reports.addAll(driver.run("x" + concurrency, mix, concurrency, duration));
+                }
+            }
+        }
+
+        System.out.println(LoadReport.header());
+        reports.forEach(System.out::println);
+    }
+}
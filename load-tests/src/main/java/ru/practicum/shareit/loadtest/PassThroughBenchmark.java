@@ -0,0 +1,69 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import ru.practicum.shareit.item.ItemClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway cost of relaying an item search page, Jackson round trip versus raw bytes.
+ * Run with the GC profiler (enabled in the exec configuration) and compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PassThroughBenchmark {
+
+    @Param({"true", "false"})
+    private boolean passThrough;
+
+    @Param({"10", "1000"})
+    private int items;
+
+    private StubServer stub;
+    private GatewayContext gateway;
+    private ItemClient itemClient;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = StubServer.start(4).respond("/items/search", Payloads.items(items));
+        gateway = GatewayContext.start(WebApplicationType.NONE, stub.url(), "--shareit-server.pass-through=" + passThrough,
+                "--shareit-server.cache.enabled=false", "--shareit-server.coalesce-reads=false");
+        itemClient = gateway.getBean(ItemClient.class);
+        objectMapper = gateway.getBean(ObjectMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gateway.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public byte[] search() throws JsonProcessingException {
+        Object body = itemClient.search("drill", 0, items).getBody();
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.loadtest;
+
+/**
+ * JSON bodies shaped like shareit-server responses.
+ */
+public final class Payloads {
+
+    private Payloads() {
+    }
+
+    public static String items(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= count; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"drill ").append(i)
+                    .append("\",\"description\":\"cordless drill for rent, item ").append(i)
+                    .append("\",\"available\":true,\"userId\":1,\"lastBooking\":null,\"nextBooking\":null,")
+                    .append("\"comments\":[{\"id\":").append(i)
+                    .append(",\"text\":\"works well\",\"authorName\":\"booker\",\"created\":\"2023-03-01T10:15:30\"}]}");
+        }
+        return json.append(']').toString();
+    }
+}
@@ -0,0 +1,249 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Users, requests, items, bookings and comments inserted over JDBC with the skew seen in production:
+ * {@value #MEGA_OWNERS} mega-owners hold half of the items, a few hot items take most of the bookings
+ * and comments, and a few heavy bookers have long histories. The same seed inserts the same rows.
+ * <p>
+ * Skewed picks take the element at {@code n * u^}{@value #SKEW} for a uniform {@code u}, so the first 1% of
+ * items gets about a third of the bookings and the first 10% more than half of them.
+ */
+public final class SkewedDataset {
+    private static final int BATCH_SIZE = 1000;
+    private static final int MEGA_OWNERS = 5;
+    private static final double SKEW = 4;
+    private static final String[] STATUSES = {"APPROVED", "APPROVED", "APPROVED", "WAITING", "REJECTED", "CANCELED"};
+    private static final String[] TOOLS = {"drill", "hammer", "saw", "ladder", "tent", "bike", "kayak", "camera",
+            "tripod", "projector", "mixer", "grill", "lawnmower", "vacuum", "speaker", "guitar", "drone", "scooter"};
+    private static final String[] TRAITS = {"cordless", "heavy", "compact", "vintage", "professional",
+            "lightweight", "folding", "electric", "waterproof", "portable"};
+
+    private final List<Long> users;
+    private final List<Long> owners;
+    private final List<Long> items;
+
+    private SkewedDataset(List<Long> users, List<Long> owners, List<Long> items) {
+        this.users = users;
+        this.owners = owners;
+        this.items = items;
+    }
+
+    public static SkewedDataset seed(Database database, Settings settings) {
+        Random random = new Random(settings.seed);
+        LocalDateTime now = LocalDateTime.now();
+        try (Connection connection = database.connect()) {
+            connection.setAutoCommit(false);
+            if (count(connection, "users") > 0) {
+                throw new IllegalStateException("Load tests need an empty database: " + database);
+            }
+
+            List<Long> users = insertUsers(connection, settings.users);
+            List<Long> requests = insertRequests(connection, random, users, settings.requests, now);
+            List<Long> itemOwners = new ArrayList<>(settings.items);
+            List<Long> items = insertItems(connection, random, users, requests, itemOwners, settings.items);
+            insertBookings(connection, random, users, items, itemOwners, settings.bookings, now);
+            insertComments(connection, random, users, items, settings.comments, now);
+
+            Set<Long> owners = new LinkedHashSet<>(itemOwners);
+            return new SkewedDataset(users, new ArrayList<>(owners), items);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not seed " + database, e);
+        }
+    }
+
+    public long randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    /**
+     * Owners in order of their first item, so mega-owners come first and are picked most often.
+     */
+    public long skewedOwner() {
+        return owners.get(skewed(ThreadLocalRandom.current(), owners.size()));
+    }
+
+    public long skewedItem() {
+        return items.get(skewed(ThreadLocalRandom.current(), items.size()));
+    }
+
+    public String searchText() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String text = random.nextBoolean()
+                ? TOOLS[random.nextInt(TOOLS.length)]
+                : TRAITS[random.nextInt(TRAITS.length)] + " " + TOOLS[random.nextInt(TOOLS.length)];
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d users, %d owners, %d items", users.size(), owners.size(), items.size());
+    }
+
+    private static List<Long> insertUsers(Connection connection, int count) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (name, email) VALUES (?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                insert.setString(1, "user " + i);
+                insert.setString(2, "user" + i + "@load.local");
+                addBatch(connection, insert, i);
+            }
+            flush(connection, insert);
+        }
+        return ids(connection, "users");
+    }
+
+    private static List<Long> insertRequests(Connection connection, Random random, List<Long> users, int count,
+                                             LocalDateTime now) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO requests (description, requester_id, created) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                insert.setString(1, "need a " + TOOLS[random.nextInt(TOOLS.length)] + " for a weekend");
+                insert.setLong(2, users.get(random.nextInt(users.size())));
+                insert.setTimestamp(3, Timestamp.valueOf(now.minusMinutes(random.nextInt(365 * 24 * 60))));
+                addBatch(connection, insert, i);
+            }
+            flush(connection, insert);
+        }
+        return ids(connection, "requests");
+    }
+
+    private static List<Long> insertItems(Connection connection, Random random, List<Long> users, List<Long> requests,
+                                          List<Long> itemOwners, int count) throws SQLException {
+        int megaOwners = Math.min(MEGA_OWNERS, users.size());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO items (name, description, is_available, owner_id, request_id) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                long ownerId = i % 2 == 0 || users.size() == megaOwners
+                        ? users.get(random.nextInt(megaOwners))
+                        : users.get(megaOwners + skewed(random, users.size() - megaOwners));
+                itemOwners.add(ownerId);
+                String tool = TOOLS[random.nextInt(TOOLS.length)];
+                String trait = TRAITS[random.nextInt(TRAITS.length)];
+                insert.setString(1, tool + " " + i);
+                insert.setString(2, trait + " " + tool + " for rent, item " + i);
+                insert.setBoolean(3, random.nextInt(10) != 0);
+                insert.setLong(4, ownerId);
+                if (!requests.isEmpty() && random.nextInt(10) == 0) {
+                    insert.setLong(5, requests.get(random.nextInt(requests.size())));
+                } else {
+                    insert.setNull(5, Types.BIGINT);
+                }
+                addBatch(connection, insert, i);
+            }
+            flush(connection, insert);
+        }
+        return ids(connection, "items");
+    }
+
+    private static void insertBookings(Connection connection, Random random, List<Long> users, List<Long> items,
+                                       List<Long> itemOwners, int count, LocalDateTime now) throws SQLException {
+        LocalDateTime from = now.minusYears(2);
+        int minutes = (int) Duration.between(from, now.plusMonths(1)).toMinutes();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bookings (start_date, end_date, status, item_id, booker_id) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                int item = skewed(random, items.size());
+                // heavy bookers sit at the end of the user list, away from the mega-owners
+                int booker = users.size() - 1 - skewed(random, users.size());
+                if (users.get(booker).equals(itemOwners.get(item))) {
+                    booker = (booker + 1) % users.size();
+                }
+                LocalDateTime start = from.plusMinutes(random.nextInt(minutes));
+                insert.setTimestamp(1, Timestamp.valueOf(start));
+                insert.setTimestamp(2, Timestamp.valueOf(start.plusHours(1 + random.nextInt(72))));
+                insert.setString(3, STATUSES[random.nextInt(STATUSES.length)]);
+                insert.setLong(4, items.get(item));
+                insert.setLong(5, users.get(booker));
+                addBatch(connection, insert, i);
+            }
+            flush(connection, insert);
+        }
+    }
+
+    private static void insertComments(Connection connection, Random random, List<Long> users, List<Long> items,
+                                       int count, LocalDateTime now) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO comments (text, created, item_id, author_id) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                insert.setString(1, "comment " + i);
+                insert.setTimestamp(2, Timestamp.valueOf(now.minusMinutes(random.nextInt(365 * 24 * 60))));
+                insert.setLong(3, items.get(skewed(random, items.size())));
+                insert.setLong(4, users.get(random.nextInt(users.size())));
+                addBatch(connection, insert, i);
+            }
+            flush(connection, insert);
+        }
+    }
+
+    private static int skewed(Random random, int size) {
+        return (int) (size * Math.pow(random.nextDouble(), SKEW));
+    }
+
+    private static void addBatch(Connection connection, PreparedStatement insert, int row) throws SQLException {
+        insert.addBatch();
+        if ((row + 1) % BATCH_SIZE == 0) {
+            flush(connection, insert);
+        }
+    }
+
+    private static void flush(Connection connection, PreparedStatement insert) throws SQLException {
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static List<Long> ids(Connection connection, String table) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id FROM " + table + " ORDER BY id")) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    public static final class Settings {
+        private long seed = 42;
+        private int users = 10_000;
+        private int requests = 20_000;
+        private int items = 100_000;
+        private int bookings = 500_000;
+        private int comments = 50_000;
+
+        public static Settings fromSystemProperties() {
+            Settings settings = new Settings();
+            settings.seed = Long.getLong("seed", settings.seed);
+            settings.users = Integer.getInteger("users", settings.users);
+            settings.requests = Integer.getInteger("requests", settings.requests);
+            settings.items = Integer.getInteger("items", settings.items);
+            settings.bookings = Integer.getInteger("bookings", settings.bookings);
+            settings.comments = Integer.getInteger("comments", settings.comments);
+            return settings;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Named endpoints with relative weights; every request a virtual user sends goes to an endpoint picked by weight.
+ */
+public final class TrafficMix {
+    private final List<String> names = new ArrayList<>();
+    private final List<Supplier<HttpRequest>> requests = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private int totalWeight;
+
+    public static TrafficMix of(String name, Supplier<HttpRequest> requests) {
+        return new TrafficMix().add(name, 1, requests);
+    }
+
+    public TrafficMix add(String name, int weight, Supplier<HttpRequest> requests) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight of " + name + " must be positive");
+        }
+        totalWeight += weight;
+        names.add(name);
+        this.requests.add(requests);
+        cumulativeWeights.add(totalWeight);
+        return this;
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    String name(int endpoint) {
+        return names.get(endpoint);
+    }
+
+    HttpRequest request(int endpoint) {
+        return requests.get(endpoint).get();
+    }
+
+    int pick() {
+        int point = ThreadLocalRandom.current().nextInt(totalWeight);
+        int endpoint = 0;
+        while (point >= cumulativeWeights.get(endpoint)) {
+            endpoint++;
+        }
+        return endpoint;
+    }
+}
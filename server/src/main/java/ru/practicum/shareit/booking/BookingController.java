@@ -2,12 +2,13 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.user.utils.HttpHeaders;
+import ru.practicum.shareit.utils.OffsetPageRequest;
 
 import java.util.List;
 
@@ -44,22 +45,34 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getAllByUser(@RequestHeader(HttpHeaders.USER_ID) Long userId,
-                                         @RequestParam(defaultValue = "ALL") String state,
-                                         @RequestParam(defaultValue = "0") Integer from,
-                                         @RequestParam(defaultValue = "10") Integer size) {
+    public ResponseEntity<List<BookingDto>> getAllByUser(@RequestHeader(HttpHeaders.USER_ID) Long userId,
+                                                         @RequestParam(defaultValue = "ALL") String state,
+                                                         @RequestParam(defaultValue = "0") Integer from,
+                                                         @RequestParam(defaultValue = "10") Integer size,
+                                                         @RequestParam(required = false) String cursor) {
         log.info("Getting all user bookings", state, userId);
-        Pageable page = PageRequest.of(from / size, size);
-        return bookingService.getAllByUser(userId, BookingState.getEnumByString(state), page);
+        BookingCursor position = cursor != null ? BookingCursor.decode(cursor) : BookingCursor.FIRST;
+        Pageable page = OffsetPageRequest.of(cursor != null ? 0 : from, size);
+        return withNextCursor(bookingService.getAllByUser(userId, BookingState.getEnumByString(state), position, page), size);
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getAllByOwner(@RequestHeader(HttpHeaders.USER_ID) Long userId,
-                                          @RequestParam(defaultValue = "ALL") String state,
-                                          @RequestParam(defaultValue = "0") Integer from,
-                                          @RequestParam(defaultValue = "10") Integer size) {
+    public ResponseEntity<List<BookingDto>> getAllByOwner(@RequestHeader(HttpHeaders.USER_ID) Long userId,
+                                                          @RequestParam(defaultValue = "ALL") String state,
+                                                          @RequestParam(defaultValue = "0") Integer from,
+                                                          @RequestParam(defaultValue = "10") Integer size,
+                                                          @RequestParam(required = false) String cursor) {
         log.info("Getting all owner bookings", state, userId);
-        Pageable page = PageRequest.of(from / size, size);
-        return bookingService.getAllByOwner(userId, BookingState.getEnumByString(state), page);
+        BookingCursor position = cursor != null ? BookingCursor.decode(cursor) : BookingCursor.FIRST;
+        Pageable page = OffsetPageRequest.of(cursor != null ? 0 : from, size);
+        return withNextCursor(bookingService.getAllByOwner(userId, BookingState.getEnumByString(state), position, page), size);
+    }
+
+    private ResponseEntity<List<BookingDto>> withNextCursor(List<BookingDto> bookings, int size) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!bookings.isEmpty() && bookings.size() == size) {
+            response.header(HttpHeaders.NEXT_CURSOR, BookingCursor.after(bookings.get(bookings.size() - 1)).encode());
+        }
+        return response.body(bookings);
     }
 }
@@ -0,0 +1,150 @@
+package ru.practicum.shareit.booking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingInterval;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * APPROVED booking windows per item, merged into disjoint {@code [start, end)} intervals.
+ * An item is loaded from the database on first use and then kept up to date after every committed approval.
+ * At most {@link #MAX_ITEMS} items are kept, and items unused for {@link #IDLE} are dropped and reloaded when needed.
+ * It only serves as a fast pre-check: the approval itself re-checks overlaps in the database under an item lock.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+    private static final long MAX_ITEMS = 10_000;
+    private static final Duration IDLE = Duration.ofHours(1);
+
+    private final BookingRepository bookingRepository;
+    private final Cache<Long, ItemIntervals> items = Caffeine.newBuilder()
+            .maximumSize(MAX_ITEMS)
+            .expireAfterAccess(IDLE)
+            .build();
+
+    public boolean overlaps(long itemId, LocalDateTime start, LocalDateTime end) {
+        ItemIntervals intervals = loaded(itemId);
+        intervals.lock.readLock().lock();
+        try {
+            Map.Entry<LocalDateTime, LocalDateTime> candidate = intervals.byStart.lowerEntry(end);
+            return candidate != null && candidate.getValue().isAfter(start);
+        } finally {
+            intervals.lock.readLock().unlock();
+        }
+    }
+
+    public List<Map.Entry<LocalDateTime, LocalDateTime>> busy(long itemId, LocalDateTime from, LocalDateTime to) {
+        ItemIntervals intervals = loaded(itemId);
+        intervals.lock.readLock().lock();
+        try {
+            // copied under the lock: subMap entries are live and merge() rewrites their ends
+            List<Map.Entry<LocalDateTime, LocalDateTime>> busy = new ArrayList<>();
+            Map.Entry<LocalDateTime, LocalDateTime> first = intervals.byStart.lowerEntry(from);
+            if (first != null && first.getValue().isAfter(from)) {
+                busy.add(new AbstractMap.SimpleImmutableEntry<>(first));
+            }
+            intervals.byStart.subMap(from, true, to, false)
+                    .forEach((start, end) -> busy.add(new AbstractMap.SimpleImmutableEntry<>(start, end)));
+            return busy;
+        } finally {
+            intervals.lock.readLock().unlock();
+        }
+    }
+
+    public void addAfterCommit(long itemId, LocalDateTime start, LocalDateTime end) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(itemId, start, end);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(itemId, start, end);
+            }
+        });
+    }
+
+    /**
+     * Deleting a user deletes their bookings by ON DELETE CASCADE, on items that cannot be told apart here.
+     */
+    public void evictAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            items.invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                items.invalidateAll();
+            }
+        });
+    }
+
+    void add(long itemId, LocalDateTime start, LocalDateTime end) {
+        ItemIntervals intervals = items.get(itemId, id -> new ItemIntervals());
+        intervals.lock.writeLock().lock();
+        try {
+            intervals.merge(start, end);
+        } finally {
+            intervals.lock.writeLock().unlock();
+        }
+    }
+
+    private ItemIntervals loaded(long itemId) {
+        ItemIntervals intervals = items.get(itemId, id -> new ItemIntervals());
+        if (intervals.loaded) {
+            return intervals;
+        }
+        intervals.lock.writeLock().lock();
+        try {
+            if (!intervals.loaded) {
+                for (BookingInterval booking : bookingRepository.findByItem_IdAndStatus(itemId, BookingStatus.APPROVED)) {
+                    intervals.merge(booking.getStart(), booking.getEnd());
+                }
+                intervals.loaded = true;
+            }
+            return intervals;
+        } finally {
+            intervals.lock.writeLock().unlock();
+        }
+    }
+
+    private static class ItemIntervals {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TreeMap<LocalDateTime, LocalDateTime> byStart = new TreeMap<>();
+        private volatile boolean loaded;
+
+        private void merge(LocalDateTime start, LocalDateTime end) {
+            Map.Entry<LocalDateTime, LocalDateTime> previous = byStart.floorEntry(start);
+            if (previous != null && !previous.getValue().isBefore(start)) {
+                start = previous.getKey();
+                end = max(end, previous.getValue());
+            }
+            Map.Entry<LocalDateTime, LocalDateTime> next = byStart.ceilingEntry(start);
+            while (next != null && !next.getKey().isAfter(end)) {
+                end = max(end, next.getValue());
+                byStart.remove(next.getKey());
+                next = byStart.higherEntry(start);
+            }
+            byStart.put(start, end);
+        }
+
+        private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+            return a.isAfter(b) ? a : b;
+        }
+    }
+}
@@ -1,90 +1,168 @@
 package ru.practicum.shareit.booking;
 
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import ru.practicum.shareit.booking.dto.BookingInterval;
+import ru.practicum.shareit.booking.dto.BookingShortView;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findAllByBookerId(Long bookerId, Pageable page);
+    String AFTER_CURSOR = "AND (b.start < :cursorStart " +
+            "OR (b.start = :cursorStart AND b.id < :cursorId)) ";
 
-    boolean existsByItemAndBookerAndEndIsBefore(Item item, User user, LocalDateTime now);
+    String ORDER_BY_START_DESC = "order by b.start desc, b.id desc";
 
-    @Query("select b " +
-            "from Booking b " +
-            "where b.item.id IN :itemsIds")
-    List<Booking> findAllByOwnerItems(List<Long> itemsIds, Pageable page);
+    String BOOKING_VIEW = "select new ru.practicum.shareit.booking.dto.BookingView(b.id, b.start, b.end, b.status, " +
+            "u.id, u.name, u.email, i.id, i.name, i.description, i.available, i.owner.id) " +
+            "from Booking b join b.booker u join b.item i ";
 
-    @Query("select b from Booking b " +
-            "where b.item.id " +
-            "IN :itemsIds " +
-            "AND b.status = :waiting")
-    List<Booking> findAllByOwnerItemsAndWaitingStatus(List<Long> itemsIds, BookingStatus waiting, Pageable page);
+    @Override
+    @EntityGraph(Booking.WITH_BOOKER_AND_ITEM)
+    Optional<Booking> findById(Long id);
 
-    @Query("select b from Booking b " +
-            "where b.item.id " +
-            "IN :itemsIds " +
-            "AND b.status " +
-            "IN :rejected")
-    List<Booking> findAllByOwnerItemsAndRejectedStatus(List<Long> itemsIds, List<BookingStatus> rejected, Pageable page);
+    boolean existsByItemAndBookerAndEndIsBefore(Item item, User user, LocalDateTime now);
 
-    @Query("select b from Booking b " +
-            "where b.item.id " +
-            "IN :itemsIds " +
+    @Query(BOOKING_VIEW +
+            "where i.owner.id = :ownerId " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByOwnerId(Long ownerId, LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where i.owner.id = :ownerId " +
+            "AND b.status = :waiting " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByOwnerIdAndWaitingStatus(Long ownerId, BookingStatus waiting,
+                                                       LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where i.owner.id = :ownerId " +
+            "AND b.status " +
+            "IN :rejected " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByOwnerIdAndRejectedStatus(Long ownerId, List<BookingStatus> rejected,
+                                                        LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where i.owner.id = :ownerId " +
             "AND b.start < :now " +
-            "AND b.end > :now")
-    List<Booking> findAllByOwnerItemsAndCurrentStatus(List<Long> itemsIds, LocalDateTime now, Pageable page);
-
-    @Query("select b from Booking b " +
-            "where b.item.id " +
-            "IN :itemsIds " +
-            "AND b.start > :now")
-    List<Booking> findAllByOwnerItemsAndFutureStatus(List<Long> itemsIds, LocalDateTime now, Pageable page);
-
-    @Query("select b from Booking b " +
-            "where b.item.id " +
-            "IN :itemsIds " +
-            "AND b.end < :now")
-    List<Booking> findAllByOwnerItemsAndPastStatus(List<Long> itemsIds, LocalDateTime now, Pageable page);
-
-    @Query("select b from Booking b " +
-            "where b.booker.id = :bookerId " +
-            "AND b.status = :waiting")
-    List<Booking> findAllByBookerIdAndWaitingStatus(Long bookerId, BookingStatus waiting, Pageable page);
-
-    @Query("select b from Booking b " +
-            "where b.booker.id = :bookerId " +
+            "AND b.end > :now " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByOwnerIdAndCurrentStatus(Long ownerId, LocalDateTime now,
+                                                       LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where i.owner.id = :ownerId " +
+            "AND b.start > :now " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByOwnerIdAndFutureStatus(Long ownerId, LocalDateTime now,
+                                                      LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where i.owner.id = :ownerId " +
+            "AND b.end < :now " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByOwnerIdAndPastStatus(Long ownerId, LocalDateTime now,
+                                                    LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where u.id = :bookerId " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByBookerId(Long bookerId, LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where u.id = :bookerId " +
+            "AND b.status = :waiting " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByBookerIdAndWaitingStatus(Long bookerId, BookingStatus waiting,
+                                                        LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where u.id = :bookerId " +
             "AND b.status " +
-            "IN :rejected")
-    List<Booking> findAllByBookerIdAndRejectedStatus(Long bookerId, List<BookingStatus> rejected, Pageable page);
-
-    @Query("select b from Booking b " +
-            "where b.booker.id = :bookerId " +
+            "IN :rejected " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByBookerIdAndRejectedStatus(Long bookerId, List<BookingStatus> rejected,
+                                                         LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where u.id = :bookerId " +
             "AND b.start < :now " +
-            "AND b.end > :now ")
-    List<Booking> findAllByBookerIdAndCurrentStatus(Long bookerId, LocalDateTime now, Pageable page);
-
-    @Query("select b from Booking b " +
-            "where b.booker.id = :bookerId " +
-            "AND b.start > :now ")
-    List<Booking> findAllByBookerIdAndFutureStatus(Long bookerId, LocalDateTime now, Pageable page);
-
-    @Query("select b from Booking b " +
-            "where b.booker.id = :bookerId " +
-            "AND b.end < :now")
-    List<Booking> findAllByBookerIdAndPastStatus(Long bookerId, LocalDateTime now, Pageable page);
-
-    List<Booking> findAllByItem_IdIn(List<Long> itemIds, Sort sort);
-
-    @Query("select b from Booking b " +
-            "where b.item.id IN :itemIds " +
-            "and b.status = 'APPROVED'")
-    List<Booking> findApprovedByItems(List<Long> itemIds);
+            "AND b.end > :now " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByBookerIdAndCurrentStatus(Long bookerId, LocalDateTime now,
+                                                        LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where u.id = :bookerId " +
+            "AND b.start > :now " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByBookerIdAndFutureStatus(Long bookerId, LocalDateTime now,
+                                                       LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(BOOKING_VIEW +
+            "where u.id = :bookerId " +
+            "AND b.end < :now " +
+            AFTER_CURSOR +
+            ORDER_BY_START_DESC)
+    List<BookingView> findAllByBookerIdAndPastStatus(Long bookerId, LocalDateTime now,
+                                                     LocalDateTime cursorStart, Long cursorId, Pageable page);
+
+    @Query(value = "(SELECT b.id AS \"id\", b.booker_id AS \"bookerId\", b.start_date AS \"start\", " +
+            "b.end_date AS \"end\", b.item_id AS \"itemId\", 'LAST' AS \"kind\" " +
+            "FROM bookings b " +
+            "WHERE b.item_id = :itemId AND b.start_date <= :now " +
+            "ORDER BY b.start_date DESC LIMIT 1) " +
+            "UNION ALL " +
+            "(SELECT b.id, b.booker_id, b.start_date, b.end_date, b.item_id, 'NEXT' " +
+            "FROM bookings b " +
+            "WHERE b.item_id = :itemId AND b.status = 'APPROVED' AND b.start_date > :now " +
+            "ORDER BY b.start_date LIMIT 1)",
+            nativeQuery = true)
+    List<BookingShortView> findLastAndNextBookings(Long itemId, LocalDateTime now);
+
+    @Query(value = "SELECT r.id AS \"id\", r.booker_id AS \"bookerId\", r.start_date AS \"start\", " +
+            "r.end_date AS \"end\", r.item_id AS \"itemId\", r.kind AS \"kind\" " +
+            "FROM (SELECT b.id, b.booker_id, b.start_date, b.end_date, b.item_id, 'LAST' AS kind, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start_date DESC) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) AND b.start_date <= :now " +
+            "UNION ALL " +
+            "SELECT b.id, b.booker_id, b.start_date, b.end_date, b.item_id, 'NEXT' AS kind, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start_date) AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) AND b.status = 'APPROVED' AND b.start_date > :now) r " +
+            "WHERE r.rn = 1",
+            nativeQuery = true)
+    List<BookingShortView> findLastAndNextBookingsByItemIds(List<Long> itemIds, LocalDateTime now);
+
+    List<BookingInterval> findByItem_IdAndStatus(Long itemId, BookingStatus status);
+
+    @Query("select case when count(b) > 0 then true else false end from Booking b " +
+            "where b.item.id = :itemId " +
+            "and b.status = 'APPROVED' " +
+            "and b.id <> :bookingId " +
+            "and b.start < :end " +
+            "and b.end > :start")
+    boolean existsApprovedOverlap(Long itemId, Long bookingId, LocalDateTime start, LocalDateTime end);
 }
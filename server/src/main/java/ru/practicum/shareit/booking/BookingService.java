@@ -13,8 +13,8 @@ public interface BookingService {
 
     BookingDto getBooking(Long bookingId, Long userId);
 
-    List<BookingDto> getAllByUser(Long userId, BookingState state, Pageable page);
+    List<BookingDto> getAllByUser(Long userId, BookingState state, BookingCursor cursor, Pageable page);
 
-    List<BookingDto> getAllByOwner(Long userId, BookingState state, Pageable page);
+    List<BookingDto> getAllByOwner(Long userId, BookingState state, BookingCursor cursor, Pageable page);
 
 }
\ No newline at end of file
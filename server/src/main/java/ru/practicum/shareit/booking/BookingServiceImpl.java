@@ -1,13 +1,12 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.dto.mapper.BookingMapper;
 import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.exception.DataException;
@@ -15,13 +14,14 @@ import ru.practicum.shareit.exception.ItemBookingException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.UserExistence;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.booking.BookingStatus.*;
 
@@ -32,7 +32,9 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
-    private static final Sort SORT_BY_START_DESC = Sort.by(Sort.Direction.DESC, "start");
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final UserExistence userExistence;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -46,6 +48,9 @@ public class BookingServiceImpl implements BookingService {
             throw new NotFoundException("Owner can't book his item");
 
         if (item.getAvailable()) {
+            if (bookingIntervalIndex.overlaps(item.getId(), bookingRequestDto.getStart(), bookingRequestDto.getEnd())) {
+                throw new ItemBookingException("Item is already booked for these dates");
+            }
             Booking booking = Booking.builder()
                     .start(bookingRequestDto.getStart())
                     .end(bookingRequestDto.getEnd())
@@ -63,8 +68,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public BookingDto approve(Long bookingId, Long userId, Boolean approved) {
-        if (!userRepository.existsById(userId))
-            throw new NotFoundException(String.format("User id not found"));
+        userExistence.require(userId);
 
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Booking not found"));
@@ -72,10 +76,19 @@ public class BookingServiceImpl implements BookingService {
         if (!userId.equals(booking.getItem().getOwner().getId()))
             throw new NotFoundException("User has no rights to approve booking ");
 
-        if (booking.getStatus().equals(WAITING) && booking.getItem().getAvailable()) {
+        // approve and reject both take the item lock before checking the status, so only one of them sees WAITING
+        Item item = itemRepository.findByIdForUpdate(booking.getItem().getId())
+                .orElseThrow(() -> new NotFoundException("Item not found"));
+        entityManager.refresh(booking);
+
+        if (booking.getStatus().equals(WAITING) && item.getAvailable()) {
 
             if (approved) {
+                if (bookingRepository.existsApprovedOverlap(item.getId(), booking.getId(), booking.getStart(), booking.getEnd())) {
+                    throw new ItemBookingException("Item is already booked for these dates");
+                }
                 booking.setStatus(APPROVED);
+                bookingIntervalIndex.addAfterCommit(item.getId(), booking.getStart(), booking.getEnd());
             } else {
                 booking.setStatus(REJECTED);
             }
@@ -87,6 +100,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookingDto getBooking(Long bookingId, Long userId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Booking not found"));
@@ -102,79 +116,76 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingDto> getAllByUser(Long userId, BookingState state, Pageable page) {
-        User booker = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User is not found"));
+    public List<BookingDto> getAllByUser(Long userId, BookingState state, BookingCursor cursor, Pageable page) {
+        userExistence.require(userId);
 
-        Pageable pageForBookings = PageRequest.of(page.getPageNumber(), page.getPageSize(), SORT_BY_START_DESC);
-        List<Booking> bookings;
+        LocalDateTime cursorStart = cursor.getStart();
+        Long cursorId = cursor.getId();
+        List<BookingView> bookings;
 
         switch (state) {
             case ALL:
-                bookings = bookingRepository.findAllByBookerId(userId, pageForBookings);
+                bookings = bookingRepository.findAllByBookerId(userId, cursorStart, cursorId, page);
                 break;
             case CURRENT:
-                bookings = bookingRepository.findAllByBookerIdAndCurrentStatus(userId, LocalDateTime.now(), pageForBookings);
+                bookings = bookingRepository.findAllByBookerIdAndCurrentStatus(userId, LocalDateTime.now(), cursorStart, cursorId, page);
                 break;
             case FUTURE:
-                bookings = bookingRepository.findAllByBookerIdAndFutureStatus(userId, LocalDateTime.now(), pageForBookings);
+                bookings = bookingRepository.findAllByBookerIdAndFutureStatus(userId, LocalDateTime.now(), cursorStart, cursorId, page);
                 break;
             case PAST:
-                bookings = bookingRepository.findAllByBookerIdAndPastStatus(userId, LocalDateTime.now(), pageForBookings);
+                bookings = bookingRepository.findAllByBookerIdAndPastStatus(userId, LocalDateTime.now(), cursorStart, cursorId, page);
                 break;
             case WAITING:
-                bookings = bookingRepository.findAllByBookerIdAndWaitingStatus(userId, BookingStatus.WAITING, pageForBookings);
+                bookings = bookingRepository.findAllByBookerIdAndWaitingStatus(userId, BookingStatus.WAITING, cursorStart, cursorId, page);
                 break;
             case REJECTED:
-                bookings = bookingRepository.findAllByBookerIdAndRejectedStatus(userId, Collections.singletonList(BookingStatus.REJECTED), pageForBookings);
+                bookings = bookingRepository.findAllByBookerIdAndRejectedStatus(userId, Collections.singletonList(BookingStatus.REJECTED), cursorStart, cursorId, page);
                 break;
             default:
                 throw new BadRequestException("Unknown state: UNSUPPORTED_STATUS");
         }
 
-        return BookingMapper.responseDtoListOf(bookings);
+        return BookingMapper.responseDtoListOfViews(bookings);
     }
 
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingDto> getAllByOwner(Long userId, BookingState state, Pageable page) {
-        User owner = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User is not found"));
-        Pageable pageForBookings = PageRequest.of(page.getPageNumber(), page.getPageSize(), SORT_BY_START_DESC);
-
-        List<Long> userItemsIds = itemRepository.findByOwnerIdWithoutPageable(userId).stream()
-                .map(Item::getId)
-                .collect(Collectors.toList());
-        if (userItemsIds.isEmpty()) {
+    public List<BookingDto> getAllByOwner(Long userId, BookingState state, BookingCursor cursor, Pageable page) {
+        userExistence.require(userId);
+
+        if (!itemRepository.existsByOwnerId(userId)) {
             throw new DataException("This method only for users who have >1 items");
         }
 
-        List<Booking> bookings;
+        LocalDateTime cursorStart = cursor.getStart();
+        Long cursorId = cursor.getId();
+        List<BookingView> bookings;
 
         switch (state) {
             case ALL:
-                bookings = bookingRepository.findAllByOwnerItems(userItemsIds, pageForBookings);
+                bookings = bookingRepository.findAllByOwnerId(userId, cursorStart, cursorId, page);
                 break;
             case CURRENT:
-                bookings = bookingRepository.findAllByOwnerItemsAndCurrentStatus(userItemsIds, LocalDateTime.now(), pageForBookings);
+                bookings = bookingRepository.findAllByOwnerIdAndCurrentStatus(userId, LocalDateTime.now(), cursorStart, cursorId, page);
                 break;
             case FUTURE:
-                bookings = bookingRepository.findAllByOwnerItemsAndFutureStatus(userItemsIds, LocalDateTime.now(), pageForBookings);
+                bookings = bookingRepository.findAllByOwnerIdAndFutureStatus(userId, LocalDateTime.now(), cursorStart, cursorId, page);
                 break;
             case PAST:
-                bookings = bookingRepository.findAllByOwnerItemsAndPastStatus(userItemsIds, LocalDateTime.now(), pageForBookings);
+                bookings = bookingRepository.findAllByOwnerIdAndPastStatus(userId, LocalDateTime.now(), cursorStart, cursorId, page);
                 break;
             case WAITING:
-                bookings = bookingRepository.findAllByOwnerItemsAndWaitingStatus(userItemsIds, BookingStatus.WAITING, pageForBookings);
+                bookings = bookingRepository.findAllByOwnerIdAndWaitingStatus(userId, BookingStatus.WAITING, cursorStart, cursorId, page);
                 break;
             case REJECTED:
-                bookings = bookingRepository.findAllByOwnerItemsAndRejectedStatus(userItemsIds, List.of(BookingStatus.REJECTED, BookingStatus.CANCELED), pageForBookings);
+                bookings = bookingRepository.findAllByOwnerIdAndRejectedStatus(userId, List.of(BookingStatus.REJECTED, BookingStatus.CANCELED), cursorStart, cursorId, page);
                 break;
             default:
                 throw new BadRequestException("Unknown state: UNSUPPORTED_STATUS");
         }
 
-        return BookingMapper.responseDtoListOf(bookings);
+        return BookingMapper.responseDtoListOfViews(bookings);
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a booking list: only the columns {@link BookingDto} shows, selected by a constructor
+ * expression so that no booking, user or item entity is loaded or tracked by the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingView {
+    private final Long id;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final BookingStatus status;
+    private final Long bookerId;
+    private final String bookerName;
+    private final String bookerEmail;
+    private final Long itemId;
+    private final String itemName;
+    private final String itemDescription;
+    private final Boolean itemAvailable;
+    private final Long ownerId;
+}
@@ -4,9 +4,14 @@ import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingShortView;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.mapper.ItemMapper;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.mapper.UserMapper;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +28,28 @@ public class BookingMapper {
                 .build();
     }
 
+    public BookingDto responseDtoOf(BookingView booking) {
+        return BookingDto.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .status(booking.getStatus().toString())
+                .booker(UserDto.builder()
+                        .id(booking.getBookerId())
+                        .name(booking.getBookerName())
+                        .email(booking.getBookerEmail())
+                        .build())
+                .item(ItemDto.builder()
+                        .id(booking.getItemId())
+                        .name(booking.getItemName())
+                        .description(booking.getItemDescription())
+                        .available(booking.getItemAvailable())
+                        .userId(booking.getOwnerId())
+                        .comments(new ArrayList<>())
+                        .build())
+                .build();
+    }
+
     public BookingShortDto shortResponseDtoOf(Booking booking) {
         return BookingShortDto.builder()
                 .id(booking.getId())
@@ -30,10 +57,24 @@ public class BookingMapper {
                 .build();
     }
 
+    public BookingShortDto shortResponseDtoOf(BookingShortView booking) {
+        return BookingShortDto.builder()
+                .id(booking.getId())
+                .bookerId(booking.getBookerId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .itemId(booking.getItemId())
+                .build();
+    }
+
     public List<BookingDto> responseDtoListOf(List<Booking> bookings) {
         return bookings.stream().map(BookingMapper::responseDtoOf).collect(Collectors.toList());
     }
 
+    public List<BookingDto> responseDtoListOfViews(List<BookingView> bookings) {
+        return bookings.stream().map(BookingMapper::responseDtoOf).collect(Collectors.toList());
+    }
+
     public BookingShortDto shortResponseDtoOfTest(Booking booking) {
         return BookingShortDto.builder()
                 .id(booking.getId())
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+@ConfigurationProperties(prefix = "shareit.availability")
+public class AvailabilityProperties {
+    private Duration granularity = Duration.ofHours(1);
+
+    /**
+     * Free slots are rounded to whole seconds since the epoch, so the granularity must be a positive
+     * whole number of seconds; anything else fails binding at startup.
+     */
+    public void setGranularity(Duration granularity) {
+        if (granularity.getSeconds() < 1 || granularity.getNano() != 0) {
+            throw new IllegalArgumentException("shareit.availability.granularity must be a whole number of seconds, " +
+                    "at least PT1S, but was " + granularity);
+        }
+        this.granularity = granularity;
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes the Hikari pool from the database host's cores unless {@code spring.datasource.hikari.maximum-pool-size}
+ * is set: {@code cores * 2 + 1}, the PostgreSQL rule of thumb for SSD-backed servers, with as many idle
+ * connections kept open so the pool does not connect under load. {@code shareit.datasource.cores} defaults to
+ * the cores of this host and should be set when the database runs on a different machine.
+ */
+@Slf4j
+@Configuration
+@Profile("prod")
+public class DataSourcePoolConfig {
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    static final String CORES = "shareit.datasource.cores";
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                    int cores = environment.getProperty(CORES, Integer.class,
+                            Runtime.getRuntime().availableProcessors());
+                    int size = cores * 2 + 1;
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+                    dataSource.setMaximumPoolSize(size);
+                    dataSource.setMinimumIdle(size);
+                    log.info("Sized connection pool {} to {} connections for {} database cores",
+                            dataSource.getPoolName(), size, cores);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Explains the native repository queries on startup and logs which of them can be served by an index. The SQL is
+ * read from their {@link Query} annotations, so the check cannot drift from what runs; JPQL and derived queries
+ * are left out, as their SQL is generated by Hibernate.
+ * On PostgreSQL sequential scans are disabled for the check, so small tables do not hide a missing index.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.index-report.enabled", havingValue = "true")
+public class IndexUsageReporter implements ApplicationRunner {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(BookingRepository.class, ItemRepository.class,
+            CommentRepository.class, ItemRequestRepository.class, UserRepository.class);
+
+    private static final Map<String, Object> PARAMETERS = Map.of(
+            "itemId", 1L,
+            "itemIds", List.of(1L, 2L),
+            "now", LocalDateTime.now(),
+            "text", "drill",
+            "pattern", "%drill%");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) this::report);
+        } catch (DataAccessException e) {
+            log.warn("Index usage check failed: {}", e.getMessage());
+        }
+    }
+
+    private Void report(Connection connection) throws SQLException {
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        NamedParameterJdbcTemplate explainer =
+                new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true));
+        try (Statement statement = connection.createStatement()) {
+            if (postgres) {
+                statement.execute("SET enable_seqscan = off");
+            }
+            try {
+                for (Class<?> repository : REPOSITORIES) {
+                    for (Method method : repository.getDeclaredMethods()) {
+                        Query query = method.getAnnotation(Query.class);
+                        if (query != null && query.nativeQuery()) {
+                            check(explainer, repository.getSimpleName() + "." + method.getName(), query.value());
+                        }
+                    }
+                }
+            } finally {
+                if (postgres) {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+        }
+        return null;
+    }
+
+    private void check(NamedParameterJdbcTemplate explainer, String name, String sql) {
+        String plan;
+        try {
+            plan = String.join("\n", explainer.queryForList("EXPLAIN " + sql, PARAMETERS, String.class));
+        } catch (DataAccessException e) {
+            log.info("Index check: {} -> not explained: {}", name, e.getMessage());
+            return;
+        }
+        boolean sequential = plan.contains("Seq Scan") || plan.contains("tableScan");
+        if (sequential) {
+            log.warn("Index check: {} -> sequential scan", name);
+        } else {
+            log.info("Index check: {} -> index", name);
+        }
+        log.debug("Plan for {}:\n{}", name, plan);
+    }
+}
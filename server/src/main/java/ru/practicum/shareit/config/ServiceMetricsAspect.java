@@ -0,0 +1,71 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.BookingState;
+
+import java.util.Collection;
+
+/**
+ * Times every call to the four services, including the commit of their transactions, and records the size of
+ * collection results and the exceptions thrown. Booking list calls are tagged with their {@link BookingState}.
+ * Repository calls are timed by Spring Boot as {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+    public static final String TIMER = "shareit.service";
+    public static final String RESULT_SIZE = "shareit.service.result.size";
+    public static final String ERRORS = "shareit.service.errors";
+
+    private final MeterRegistry registry;
+
+    @Around("execution(public * ru.practicum.shareit.booking.BookingService+.*(..)) || " +
+            "execution(public * ru.practicum.shareit.item.service.ItemService+.*(..)) || " +
+            "execution(public * ru.practicum.shareit.request.service.ItemRequestService+.*(..)) || " +
+            "execution(public * ru.practicum.shareit.user.service.UserService+.*(..))")
+    public Object measure(ProceedingJoinPoint call) throws Throwable {
+        Tags tags = Tags.of(
+                "service", call.getTarget().getClass().getSimpleName(),
+                "method", call.getSignature().getName(),
+                "state", stateOf(call.getArgs()));
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            Object result = call.proceed();
+            if (result instanceof Collection) {
+                DistributionSummary.builder(RESULT_SIZE)
+                        .tags(tags)
+                        .register(registry)
+                        .record(((Collection<?>) result).size());
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            registry.counter(ERRORS, tags.and("exception", exception)).increment();
+            throw e;
+        } finally {
+            sample.stop(registry.timer(TIMER, tags.and("exception", exception)));
+        }
+    }
+
+    private static String stateOf(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof BookingState) {
+                return ((BookingState) arg).name();
+            }
+        }
+        return "none";
+    }
+}
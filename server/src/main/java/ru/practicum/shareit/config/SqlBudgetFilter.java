@@ -0,0 +1,63 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Counts the statements and rows of every request, records them per endpoint and logs an endpoint over the
+ * {@link SqlBudgetProperties} budget. With {@code shareit.sql-budget.fail-on-exceed}, as in tests, the
+ * {@link SqlCounter} fails the request itself while it runs; the response is already written by the time this
+ * filter could. Async requests, such as the NDJSON
+ * user stream, do their JDBC work on another thread after this filter returns and are not counted.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS = "shareit.sql.statements";
+    public static final String ROWS = "shareit.sql.rows";
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry registry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlCounter counter = SqlCounter.start(properties);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlCounter.stop();
+        }
+        if (request.isAsyncStarted()) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        DistributionSummary.builder(STATEMENTS).tags(tags).register(registry).record(counter.getStatements());
+        DistributionSummary.builder(ROWS).tags(tags).register(registry).record(counter.getRows());
+
+        if (counter.isOverBudget()) {
+            log.warn("{} {} ran {} statements reading {} rows, over the budget of {} statements and {} rows",
+                    request.getMethod(), uri, counter.getStatements(), counter.getRows(),
+                    properties.getStatements(), properties.getRows());
+        }
+    }
+}
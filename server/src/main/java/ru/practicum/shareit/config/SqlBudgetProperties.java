@@ -0,0 +1,17 @@
+package ru.practicum.shareit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "shareit.sql-budget")
+public class SqlBudgetProperties {
+    private boolean enabled = false;
+    private int statements = 10;
+    private long rows = 1000;
+    private boolean failOnExceed = false;
+}
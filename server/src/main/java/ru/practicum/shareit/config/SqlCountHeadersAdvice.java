@@ -0,0 +1,35 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import ru.practicum.shareit.user.utils.HttpHeaders;
+
+/**
+ * Adds the request's statement and row counts as headers just before the body is written, while they can still
+ * be set. Services have finished their transactions by then, so the counts are complete.
+ */
+@RestControllerAdvice
+public class SqlCountHeadersAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlCounter counter = SqlCounter.current();
+        if (counter != null) {
+            response.getHeaders().set(HttpHeaders.SQL_STATEMENTS, String.valueOf(counter.getStatements()));
+            response.getHeaders().set(HttpHeaders.SQL_ROWS, String.valueOf(counter.getRows()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.lang.Nullable;
+import ru.practicum.shareit.exception.SqlBudgetExceededException;
+
+/**
+ * JDBC statements executed and result set rows read on the current thread while an HTTP request is served.
+ * With {@code shareit.sql-budget.fail-on-exceed} the statement or row that crosses the budget throws, so the request
+ * fails before its response is written.
+ */
+public final class SqlCounter {
+    private static final ThreadLocal<SqlCounter> CURRENT = new ThreadLocal<>();
+
+    private final SqlBudgetProperties budget;
+    private int statements;
+    private long rows;
+    private boolean failed;
+
+    private SqlCounter(SqlBudgetProperties budget) {
+        this.budget = budget;
+    }
+
+    static SqlCounter start(SqlBudgetProperties budget) {
+        SqlCounter counter = new SqlCounter(budget);
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    @Nullable
+    static SqlCounter current() {
+        return CURRENT.get();
+    }
+
+    static void statementExecuted() {
+        SqlCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.statements++;
+            counter.checkBudget();
+        }
+    }
+
+    static void rowRead() {
+        SqlCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.rows++;
+            counter.checkBudget();
+        }
+    }
+
+    boolean isOverBudget() {
+        return statements > budget.getStatements() || rows > budget.getRows();
+    }
+
+    private void checkBudget() {
+        if (budget.isFailOnExceed() && !failed && isOverBudget()) {
+            failed = true;
+            throw new SqlBudgetExceededException(String.format("%d statements reading %d rows are over the budget " +
+                    "of %d statements and %d rows", statements, rows, budget.getStatements(), budget.getRows()));
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Hands out connections whose statements report every execution, and whose result sets report every row read,
+ * to the {@link SqlCounter} of the current thread. Unwrapping still reaches the pooled data source.
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    public SqlCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) counting(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return (Connection) counting(Connection.class, super.getConnection(username, password));
+    }
+
+    private static Object counting(Class<?> type, Object target) {
+        return Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            return counted(method, invoke(target, method, args));
+                    }
+                });
+    }
+
+    private static Object counted(Method method, Object result) {
+        if (result == null) {
+            return null;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (Statement.class.isAssignableFrom(returnType)) {
+            return counting(returnType, result);
+        }
+        if (ResultSet.class.equals(returnType)) {
+            return counting(ResultSet.class, result);
+        }
+        if (ResultSet.class.equals(method.getDeclaringClass()) && "next".equals(method.getName())
+                && Boolean.TRUE.equals(result)) {
+            SqlCounter.rowRead();
+        }
+        return result;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        if (Statement.class.isAssignableFrom(method.getDeclaringClass()) && method.getName().startsWith("execute")) {
+            SqlCounter.statementExecuted();
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
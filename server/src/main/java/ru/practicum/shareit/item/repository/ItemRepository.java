@@ -2,23 +2,58 @@ package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchView;
 import ru.practicum.shareit.request.model.ItemRequest;
-import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findByOwner(User owner, Pageable pageable);
+    @Query("select distinct i from Item i " +
+            "join fetch i.owner " +
+            "left join fetch i.request r " +
+            "left join fetch r.requester " +
+            "left join fetch i.comments c " +
+            "left join fetch c.author " +
+            "where i.id = :itemId")
+    Optional<Item> findWithCommentsById(Long itemId);
 
-    @Query("select i " +
-            "from Item i " +
-            "where i.owner.id = :ownerId")
-    List<Item> findByOwnerIdWithoutPageable(Long ownerId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = :itemId")
+    Optional<Item> findByIdForUpdate(Long itemId);
+
+    List<Item> findByOwnerId(Long ownerId, Pageable pageable);
+
+    boolean existsByOwnerId(Long ownerId);
 
     List<Item> findAllByAvailableTrueAndNameContainingIgnoreCaseOrAvailableTrueAndDescriptionContainingIgnoreCase(String name, String description, Pageable pageable);
 
     List<Item> findAllByRequestInOrderById(List<ItemRequest> requests);
 
+    @Query(value = "SELECT i.* FROM items i " +
+            "WHERE i.is_available " +
+            "AND (i.search_vector @@ plainto_tsquery('simple', :text) " +
+            "OR lower(i.name) LIKE :pattern " +
+            "OR lower(i.description) LIKE :pattern) " +
+            "ORDER BY ts_rank(i.search_vector, plainto_tsquery('simple', :text)) DESC, " +
+            "greatest(similarity(lower(i.name), lower(:text)), similarity(lower(i.description), lower(:text))) DESC, " +
+            "i.id",
+            nativeQuery = true)
+    List<Item> searchAvailableByText(String text, String pattern, Pageable page);
+
+    @Query("select i.id as id, i.name as name, i.description as description, i.available as available " +
+            "from Item i " +
+            "where i.id > :afterId " +
+            "order by i.id")
+    List<ItemSearchView> findSearchViewsAfter(Long afterId, Pageable page);
+
+    @Query("select i.id as id, i.name as name, i.description as description, i.available as available " +
+            "from Item i " +
+            "where i.id = :itemId")
+    Optional<ItemSearchView> findSearchViewById(Long itemId);
+
 }
\ No newline at end of file
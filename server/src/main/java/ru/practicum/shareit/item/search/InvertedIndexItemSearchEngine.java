@@ -0,0 +1,125 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "inverted-index")
+public class InvertedIndexItemSearchEngine implements ItemSearchEngine, SmartInitializingSingleton {
+    private static final int WARM_UP_BATCH_SIZE = 1000;
+    private static final int REFRESH_STRIPES = 64;
+
+    private final ItemRepository itemRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ItemTextIndex index = new ItemTextIndex();
+    private final Object[] refreshLocks = newLocks();
+
+    /**
+     * Runs while the context is refreshed, before the web server starts, so no search is served from a partial index.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        warmUp();
+    }
+
+    public void warmUp() {
+        long lastId = 0;
+        List<ItemSearchView> batch;
+        do {
+            batch = itemRepository.findSearchViewsAfter(lastId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+            for (ItemSearchView item : batch) {
+                index.putIfAbsent(item.getId(), item.getName(), item.getDescription(), item.getAvailable());
+                lastId = item.getId();
+            }
+        } while (batch.size() == WARM_UP_BATCH_SIZE);
+        log.info("Search index warmed up with {} items", index.size());
+    }
+
+    /**
+     * Items deleted by a database cascade, such as those answering the requests of a deleted user, never pass
+     * through {@link #onItemSaved}. Ids the database no longer has are dropped from the index and the page is
+     * searched again, so it is still filled.
+     */
+    @Override
+    public List<Item> search(String text, Pageable page) {
+        while (true) {
+            List<Long> ids = index.search(text, page.getOffset(), page.getPageSize());
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Map<Long, Item> items = itemRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Item::getId, Function.identity()));
+            if (items.size() == ids.size()) {
+                return ids.stream().map(items::get).collect(Collectors.toList());
+            }
+            for (Long id : ids) {
+                if (!items.containsKey(id)) {
+                    log.debug("Removing deleted item {} from the search index", id);
+                    index.remove(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Two updates of one item can commit in one order and run their callbacks in the other, so the callback indexes
+     * the item as the database has it now rather than the state it was saved with.
+     */
+    @Override
+    public void onItemSaved(Item item) {
+        long id = item.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(id);
+                }
+            });
+        } else {
+            index.put(id, item.getName(), item.getDescription(), Boolean.TRUE.equals(item.getAvailable()));
+        }
+    }
+
+    private void refresh(long id) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(true);
+        // read and put together, so a later commit's read is never overwritten by an earlier one
+        synchronized (refreshLocks[(int) (id % REFRESH_STRIPES)]) {
+            Optional<ItemSearchView> item = transaction.execute(status -> itemRepository.findSearchViewById(id));
+            if (item.isPresent()) {
+                index.put(id, item.get().getName(), item.get().getDescription(), item.get().getAvailable());
+            } else {
+                index.remove(id);
+            }
+        }
+    }
+
+    private static Object[] newLocks() {
+        Object[] locks = new Object[REFRESH_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+}
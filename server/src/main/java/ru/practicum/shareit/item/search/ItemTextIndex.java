@@ -0,0 +1,247 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over lower-cased item names and descriptions.
+ * Only available items have postings, and every candidate is verified with a substring check,
+ * so results are the same as {@code LIKE '%text%'} on either field, in the order items were first indexed.
+ */
+public class ItemTextIndex {
+    static final int GRAM_LENGTH = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, IntList> postings = new HashMap<>();
+
+    public void put(long id, String name, String description, boolean available) {
+        put(new Document(id, normalize(name), normalize(description), available), true);
+    }
+
+    public void putIfAbsent(long id, String name, String description, boolean available) {
+        put(new Document(id, normalize(name), normalize(description), available), false);
+    }
+
+    /**
+     * Drops the item's postings. Its slot stays behind as an unavailable document, so no other ordinal moves.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            removePostings(documents.get(ordinal), ordinal);
+            documents.set(ordinal, new Document(id, "", "", false));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> search(String text, long offset, int limit) {
+        String query = normalize(text);
+        if (query.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Page page = new Page(offset, limit);
+            if (query.length() < GRAM_LENGTH) {
+                for (int i = 0; i < documents.size() && !page.isFull(); i++) {
+                    Document document = documents.get(i);
+                    if (document.available && document.matches(query)) {
+                        page.offer(document.id);
+                    }
+                }
+                return page.ids;
+            }
+            IntList candidates = smallestPosting(query);
+            if (candidates == null) {
+                return page.ids;
+            }
+            for (int i = 0; i < candidates.size() && !page.isFull(); i++) {
+                Document document = documents.get(candidates.get(i));
+                if (document.matches(query)) {
+                    page.offer(document.id);
+                }
+            }
+            return page.ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Document document, boolean overwrite) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(document.id);
+            if (ordinal == null) {
+                ordinal = documents.size();
+                ordinals.put(document.id, ordinal);
+                documents.add(document);
+            } else {
+                if (!overwrite) {
+                    return;
+                }
+                removePostings(documents.get(ordinal), ordinal);
+                documents.set(ordinal, document);
+            }
+            if (document.available) {
+                for (String gram : document.grams()) {
+                    postings.computeIfAbsent(gram, key -> new IntList()).add(ordinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removePostings(Document document, int ordinal) {
+        if (!document.available) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            IntList posting = postings.get(gram);
+            posting.remove(ordinal);
+            if (posting.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private IntList smallestPosting(String query) {
+        IntList smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            IntList posting = postings.get(query.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return null;
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Document {
+        private final long id;
+        private final String name;
+        private final String description;
+        private final boolean available;
+
+        private Document(long id, String name, String description, boolean available) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.available = available;
+        }
+
+        private boolean matches(String query) {
+            return name.contains(query) || description.contains(query);
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            addGrams(name, grams);
+            addGrams(description, grams);
+            return grams;
+        }
+
+        private static void addGrams(String text, Set<String> grams) {
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                grams.add(text.substring(i, i + GRAM_LENGTH));
+            }
+        }
+    }
+
+    private static final class Page {
+        private final List<Long> ids;
+        private final int limit;
+        private long toSkip;
+
+        private Page(long offset, int limit) {
+            this.ids = new ArrayList<>(Math.min(limit, 64));
+            this.limit = limit;
+            this.toSkip = offset;
+        }
+
+        private void offer(long id) {
+            if (toSkip > 0) {
+                toSkip--;
+            } else {
+                ids.add(id);
+            }
+        }
+
+        private boolean isFull() {
+            return ids.size() >= limit;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private int size() {
+            return size;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private void add(int value) {
+            if (size > 0 && values[size - 1] >= value) {
+                int position = Arrays.binarySearch(values, 0, size, value);
+                if (position >= 0) {
+                    return;
+                }
+                insert(-position - 1, value);
+            } else {
+                insert(size, value);
+            }
+        }
+
+        private void remove(int value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, size - position - 1);
+                size--;
+            }
+        }
+
+        private void insert(int position, int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1) + 1);
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+        }
+    }
+}
@@ -3,9 +3,11 @@ package ru.practicum.shareit.item.service;
 import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoMarker;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -20,5 +22,7 @@ public interface ItemService {
 
     List<ItemDto> getItemsBySearch(String text, Pageable page);
 
+    ItemAvailabilityDto getAvailability(long itemId, LocalDateTime from, LocalDateTime to);
+
     CommentDto postComment(Long userId, Long itemId, CommentRequestDto commentRequestDto);
 }
\ No newline at end of file
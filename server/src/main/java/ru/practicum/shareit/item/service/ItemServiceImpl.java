@@ -3,31 +3,38 @@ package ru.practicum.shareit.item.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
 import ru.practicum.shareit.booking.BookingRepository;
-import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.dto.BookingShortView;
+import ru.practicum.shareit.booking.dto.mapper.BookingMapper;
+import ru.practicum.shareit.config.AvailabilityProperties;
 import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.NotOwnerException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoMarker;
+import ru.practicum.shareit.item.dto.TimeSlotDto;
 import ru.practicum.shareit.item.dto.mapper.CommentMapper;
 import ru.practicum.shareit.item.dto.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.UserExistence;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -41,18 +48,22 @@ public class ItemServiceImpl implements ItemService {
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
     private final ItemRequestRepository requestRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final AvailabilityProperties availabilityProperties;
+    private final UserExistence userExistence;
 
     @Override
     @Transactional
     public ItemDtoMarker create(ItemDtoMarker itemDtoMarker, long userId) {
         log.debug("Creating item: {}; for user {}", itemDtoMarker, userId);
 
-        User user = userRepository.findById(userId).orElseThrow(() ->
-                new NotFoundException("User not found"));
+        userExistence.require(userId);
         Item item = ItemMapper.toItem(itemDtoMarker);
-        item.setOwner(user);
+        item.setOwner(userRepository.getReferenceById(userId));
         setItemRequestIfPresent(itemDtoMarker, item);
         Item newItem = itemRepository.save(item);
+        itemSearchEngine.onItemSaved(newItem);
         return ItemMapper.toItemDtoMarker(newItem);
     }
 
@@ -72,6 +83,7 @@ public class ItemServiceImpl implements ItemService {
                 item.setAvailable(itemRequestDto.getAvailable());
             }
             Item updatedItem = itemRepository.save(item);
+            itemSearchEngine.onItemSaved(updatedItem);
             return ItemMapper.toItemDto(updatedItem);
         } else {
             throw new NotOwnerException("User is not the owner of the item");
@@ -81,20 +93,19 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional(readOnly = true)
     public ItemDto getItemById(long itemId, long userId) {
-        Item item = itemRepository.findById(itemId)
+        Item item = itemRepository.findWithCommentsById(itemId)
                 .orElseThrow(() -> new NotFoundException("Item not found"));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User not found"));
+        boolean isOwner = item.getOwner().getId() == userId;
+        if (!isOwner) {
+            userExistence.require(userId);
+        }
 
         ItemDto itemDto = ItemMapper.toItemDto(item);
 
-        if (item.getOwner().getId().equals(user.getId())) {
-            setLastAndNextBookingsForItem(itemDto);
+        if (isOwner) {
+            setLastAndNextBookingsForItem(itemDto, bookingRepository.findLastAndNextBookings(itemId, LocalDateTime.now()));
         }
 
-        List<Comment> comments = commentRepository.findAllByItemId(itemId);
-        itemDto.setComments(CommentMapper.listOfComments(comments));
-
         return itemDto;
     }
 
@@ -103,10 +114,9 @@ public class ItemServiceImpl implements ItemService {
     public List<ItemDto> getItemsByUserId(Long userId, Pageable page) {
         log.debug("Getting items by user Id: {}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(String.format("User not found")));
+        userExistence.require(userId);
 
-        List<Item> items = itemRepository.findByOwner(user, page);
+        List<Item> items = itemRepository.findByOwnerId(userId, page);
 
         if (items.isEmpty()) {
             throw new NotFoundException(String.format("No items found for user"));
@@ -124,12 +134,43 @@ public class ItemServiceImpl implements ItemService {
         if (text.isBlank()) {
             return Collections.emptyList();
         }
-        List<Item> items = itemRepository.findAllByAvailableTrueAndNameContainingIgnoreCaseOrAvailableTrueAndDescriptionContainingIgnoreCase(text, text, page);
+        List<Item> items = itemSearchEngine.search(text, page);
         return items.stream()
                 .map(ItemMapper::toItemDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ItemAvailabilityDto getAvailability(long itemId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Availability range start must be before its end");
+        }
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("Item not found");
+        }
+
+        Duration granularity = availabilityProperties.getGranularity();
+        List<TimeSlotDto> freeSlots = new ArrayList<>();
+        LocalDateTime slotStart = roundUp(from, granularity);
+        for (Map.Entry<LocalDateTime, LocalDateTime> busy : bookingIntervalIndex.busy(itemId, from, to)) {
+            addFreeSlot(freeSlots, slotStart, roundDown(busy.getKey(), granularity));
+            LocalDateTime busyEnd = roundUp(busy.getValue(), granularity);
+            if (busyEnd.isAfter(slotStart)) {
+                slotStart = busyEnd;
+            }
+        }
+        addFreeSlot(freeSlots, slotStart, roundDown(to, granularity));
+
+        return ItemAvailabilityDto.builder()
+                .itemId(itemId)
+                .from(from)
+                .to(to)
+                .granularity(granularity)
+                .freeSlots(freeSlots)
+                .build();
+    }
+
     @Override
     @Transactional
     public CommentDto postComment(Long userId, Long itemId, CommentRequestDto commentRequestDto) {
@@ -161,80 +202,49 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
-    private void setLastAndNextBookingsForItem(ItemDto itemDto) {
-        List<Booking> itemBookings = itemRepository.findById(itemDto.getId())
-                .map(Item::getBookings)
-                .orElse(Collections.emptyList());
-
-        itemDto.setLastBooking(findLastBookingForItem(itemBookings));
-        itemDto.setNextBooking(findNextBookingForItem(itemBookings, getItemIdsForBookings(itemBookings)));
-    }
-
-    private List<Long> getItemIdsForBookings(List<Booking> bookings) {
-        return bookings.stream()
-                .map(booking -> booking.getItem().getId())
-                .collect(Collectors.toList());
-    }
-
-    private BookingShortDto findLastBookingForItem(List<Booking> bookings) {
-        if (bookings.isEmpty()) {
-            return null;
-        }
-        LocalDateTime now = LocalDateTime.now();
-        Booking lastBooking = bookings.stream()
-                .filter(booking -> !booking.getStart().isAfter(now))
-                .max(Comparator.comparing(Booking::getStart))
-                .orElse(null);
-
-        if (lastBooking != null) {
-            return BookingShortDto.builder()
-                    .id(lastBooking.getId())
-                    .bookerId(lastBooking.getBooker().getId())
-                    .start(lastBooking.getStart())
-                    .end(lastBooking.getEnd())
-                    .itemId(lastBooking.getItem().getId())
-                    .build();
-        } else {
-            return null;
+    private void setLastAndNextBookingsForItem(ItemDto itemDto, List<BookingShortView> lastAndNext) {
+        for (BookingShortView booking : lastAndNext) {
+            if (BookingShortView.LAST.equals(booking.getKind())) {
+                itemDto.setLastBooking(BookingMapper.shortResponseDtoOf(booking));
+            } else {
+                itemDto.setNextBooking(BookingMapper.shortResponseDtoOf(booking));
+            }
         }
     }
 
-    private BookingShortDto findNextBookingForItem(List<Booking> bookings, List<Long> itemIds) {
-        LocalDateTime now = LocalDateTime.now();
-        List<Booking> approvedBookings = bookingRepository.findApprovedByItems(itemIds);
-        Optional<Booking> nextBooking = bookings.stream()
-                .filter(booking -> booking.getStart().isAfter(now) && approvedBookings.contains(booking))
-                .min(Comparator.comparing(Booking::getStart));
-        return nextBooking.map(booking -> BookingShortDto.builder()
-                        .id(booking.getId())
-                        .bookerId(booking.getBooker().getId())
-                        .start(booking.getStart())
-                        .end(booking.getEnd())
-                        .itemId(booking.getItem().getId())
-                        .build())
-                .orElse(null);
-    }
-
     private List<ItemDto> setLastAndNextBookingsForItemList(List<Item> items) {
         List<Long> itemIds = items.stream()
                 .map(Item::getId)
                 .collect(Collectors.toList());
-        Map<Long, List<Booking>> mapBookings = bookingRepository.findAllByItem_IdIn(itemIds, Sort.by(Sort.Direction.ASC, "start"))
+        Map<Long, List<BookingShortView>> lastAndNextByItemId = bookingRepository
+                .findLastAndNextBookingsByItemIds(itemIds, LocalDateTime.now())
                 .stream()
-                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+                .collect(Collectors.groupingBy(BookingShortView::getItemId));
 
         return items.stream()
                 .map(item -> {
                     ItemDto itemDto = ItemMapper.toItemDto(item);
-                    List<Booking> itemBookings = mapBookings.getOrDefault(item.getId(), new ArrayList<>());
-                    setLastAndNextBookingsForItem(itemDto, itemBookings, itemIds);
+                    setLastAndNextBookingsForItem(itemDto,
+                            lastAndNextByItemId.getOrDefault(item.getId(), Collections.emptyList()));
                     return itemDto;
                 })
                 .collect(Collectors.toList());
     }
 
-    private void setLastAndNextBookingsForItem(ItemDto itemDto, List<Booking> itemBookings, List<Long> itemIds) {
-        itemDto.setLastBooking(findLastBookingForItem(itemBookings));
-        itemDto.setNextBooking(findNextBookingForItem(itemBookings, itemIds));
+    private void addFreeSlot(List<TimeSlotDto> freeSlots, LocalDateTime start, LocalDateTime end) {
+        if (end.isAfter(start)) {
+            freeSlots.add(new TimeSlotDto(start, end));
+        }
+    }
+
+    private LocalDateTime roundDown(LocalDateTime time, Duration granularity) {
+        long step = granularity.getSeconds();
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(seconds, step) * step, 0, ZoneOffset.UTC);
+    }
+
+    private LocalDateTime roundUp(LocalDateTime time, Duration granularity) {
+        LocalDateTime rounded = roundDown(time, granularity);
+        return rounded.isBefore(time) ? rounded.plus(granularity) : rounded;
     }
 }
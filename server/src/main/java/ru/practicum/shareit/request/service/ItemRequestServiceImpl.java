@@ -16,6 +16,7 @@ import ru.practicum.shareit.request.dto.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemResponseDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.UserExistence;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -34,20 +35,21 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository requestRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final UserExistence userExistence;
 
     @Override
     @Transactional
     public ItemResponseDto createRequest(long userId, ItemRequestDto itemRequestDto) {
-        User user = getUserById(userId);
-        ItemRequest newRequest = createNewRequest(user, itemRequestDto);
+        userExistence.require(userId);
+        ItemRequest newRequest = createNewRequest(userRepository.getReferenceById(userId), itemRequestDto);
         return saveAndGetItemResponseDto(newRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemResponseDto> getUserRequests(long userId) {
-        User user = getUserById(userId);
-        List<ItemRequest> itemRequests = requestRepository.findAllByRequesterOrderByCreatedDesc(user);
+        userExistence.require(userId);
+        List<ItemRequest> itemRequests = requestRepository.findAllByRequesterIdOrderByCreatedDesc(userId);
         Map<ItemRequest, List<Item>> itemsMap = getItemsMap(itemRequests);
         return mapToItemRequestDtos(itemRequests, itemsMap);
     }
@@ -55,7 +57,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Override
     @Transactional(readOnly = true)
     public ItemResponseDto getRequest(Long userId, Long requestId) {
-        validateUserExists(userId);
+        userExistence.require(userId);
         ItemRequest itemRequest = requestRepository.findById(requestId)
                 .orElseThrow(() -> new NotFoundException("Item request not found"));
         List<ItemDtoMarker> itemDtoMarker = itemRepository.findAllByRequestInOrderById(List.of(itemRequest)).stream()
@@ -69,19 +71,14 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Override
     @Transactional(readOnly = true)
     public List<ItemResponseDto> getAllRequests(Long userId, Integer from, Integer size) {
-        User user = getUserById(userId);
+        userExistence.require(userId);
         validatePaginationParams(from, size);
         Pageable page = createPageable(from, size);
-        List<ItemRequest> itemRequests = requestRepository.findAllByRequesterNotOrderByCreatedDesc(user, page);
+        List<ItemRequest> itemRequests = requestRepository.findAllByRequesterIdNotOrderByCreatedDesc(userId, page);
         Map<ItemRequest, List<Item>> itemsMap = getItemsMap(itemRequests);
         return mapToItemRequestDtos(itemRequests, itemsMap);
     }
 
-    private User getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User not found"));
-    }
-
     private ItemRequest createNewRequest(User user, ItemRequestDto itemRequestDto) {
         ItemRequest newRequest = ItemRequestMapper.toItemRequest(itemRequestDto);
         newRequest.setCreated(LocalDateTime.now());
@@ -120,10 +117,4 @@ public class ItemRequestServiceImpl implements ItemRequestService {
             return itemResponseDto;
         }).collect(Collectors.toList());
     }
-
-    private void validateUserExists(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new NotFoundException("User not found");
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.Duration;
+
+/**
+ * Cached answer to "does this user exist", for service methods that only validate the caller by id.
+ * Only positive answers are kept, so a new user is never reported missing; deleting a user evicts it after commit.
+ * Other server instances see a deletion within {@link #TTL}, and foreign keys still reject writes for a missing user.
+ */
+@Component
+public class UserExistence {
+    private static final long MAX_SIZE = 100_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> existing = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public UserExistence(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public boolean exists(long userId) {
+        if (existing.getIfPresent(userId) != null) {
+            return true;
+        }
+        boolean exists = userRepository.existsById(userId);
+        if (exists) {
+            existing.put(userId, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    public void require(long userId) {
+        if (!exists(userId)) {
+            throw new NotFoundException("User not found");
+        }
+    }
+
+    public void evictAfterCommit(long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            existing.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                existing.invalidate(userId);
+            }
+        });
+    }
+}
@@ -1,12 +1,21 @@
 package ru.practicum.shareit.user.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.exception.BadRequestException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.utils.HttpHeaders;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 
@@ -17,12 +26,54 @@ import java.util.List;
 @RequestMapping(path = "/users")
 public class UserController {
 
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping()
-    public List<UserDto> getAllUsers() {
-        log.info("Getting all users");
-        return userService.getAll();
+    public ResponseEntity<List<UserDto>> getAllUsers(@RequestParam(required = false) Long cursor,
+                                                     @RequestParam(required = false) Integer size) {
+        if (cursor == null && size == null) {
+            log.info("Getting all users");
+            return ResponseEntity.ok(userService.getAll());
+        }
+        if (cursor != null && cursor < 0) {
+            throw new BadRequestException("Cursor must not be negative: " + cursor);
+        }
+        if (size != null && size <= 0) {
+            throw new BadRequestException("Size must be positive: " + size);
+        }
+        long after = cursor != null ? cursor : 0;
+        int limit = size != null ? size : DEFAULT_PAGE_SIZE;
+        log.info("Getting users after id: {}", after);
+        List<UserDto> users = userService.getAll(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!users.isEmpty() && users.size() == limit) {
+            response.header(HttpHeaders.NEXT_CURSOR, String.valueOf(users.get(users.size() - 1).getId()));
+        }
+        return response.body(users);
+    }
+
+    /**
+     * Runs on an async request thread after {@link ru.practicum.shareit.config.SqlBudgetFilter} has returned,
+     * so the stream is not counted against the SQL budget.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        log.info("Streaming all users");
+        ObjectWriter writer = objectMapper.writerFor(UserDto.class);
+        StreamingResponseBody body = out -> userService.streamAll(user -> {
+            try {
+                out.write(writer.writeValueAsBytes(user));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{userId}")
@@ -3,6 +3,7 @@ package ru.practicum.shareit.user.service;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
 
@@ -12,6 +13,10 @@ public interface UserService {
 
     List<UserDto> getAll();
 
+    List<UserDto> getAll(Long cursor, int size);
+
+    void streamAll(Consumer<UserDto> consumer);
+
     UserDto update(long userId, UserDto userdto);
 
     void delete(long id);
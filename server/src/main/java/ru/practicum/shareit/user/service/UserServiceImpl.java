@@ -2,16 +2,28 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserExistence;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.utils.OffsetPageRequest;
 
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Service
@@ -20,6 +32,9 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final UserExistence userExistence;
+    private final BookingIntervalIndex bookingIntervalIndex;
 
     @Override
     @Transactional
@@ -39,12 +54,33 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserDto> getAll() {
         log.debug("Getting all users");
-        List<User> users = userRepository.findAll();
+        List<User> users = userRepository.findAll(Sort.by("id"));
         return users.stream().map(UserMapper::toUserDto).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> getAll(Long cursor, int size) {
+        log.debug("Getting users after id: {}", cursor);
+        List<User> users = userRepository.findByIdGreaterThanOrderById(cursor, OffsetPageRequest.of(0, size));
+        return users.stream().map(UserMapper::toUserDto).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserDto> consumer) {
+        log.debug("Streaming all users");
+        try (Stream<User> users = userRepository.streamAll()) {
+            users.forEach(user -> {
+                consumer.accept(UserMapper.toUserDto(user));
+                entityManager.detach(user);
+            });
+        }
+    }
+
     @Override
     @Transactional
     public UserDto update(long userId, UserDto userDto) {
@@ -68,5 +104,23 @@ public class UserServiceImpl implements UserService {
     public void delete(long id) {
         log.debug("Deleting user by id: {}", id);
         userRepository.deleteById(id);
+        userExistence.evictAfterCommit(id);
+        bookingIntervalIndex.evictAllAfterCommit();
+        evictCascadedAfterCommit();
+    }
+
+    /**
+     * The user's requests, and the items answering them, are deleted by ON DELETE CASCADE in the database,
+     * which the second-level cache does not see.
+     */
+    private void evictCascadedAfterCommit() {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evict(ItemRequest.class);
+                cache.evict(Item.class);
+            }
+        });
     }
 }
\ No newline at end of file
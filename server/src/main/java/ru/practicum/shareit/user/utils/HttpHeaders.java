@@ -2,4 +2,7 @@ package ru.practicum.shareit.user.utils;
 
 public class HttpHeaders {
     public static final String USER_ID = "X-Sharer-User-Id";
-}
\ No newline at end of file
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+    public static final String SQL_STATEMENTS = "X-Sql-Statements";
+    public static final String SQL_ROWS = "X-Sql-Rows";
+}
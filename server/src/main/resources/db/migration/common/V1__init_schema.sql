@@ -1,5 +1,3 @@
-DROP TABLE IF EXISTS bookings, comments, items, requests, users CASCADE;
-
 CREATE TABLE IF NOT EXISTS users (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   name VARCHAR(255) NOT NULL,
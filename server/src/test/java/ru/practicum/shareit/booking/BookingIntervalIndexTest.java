@@ -0,0 +1,77 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingIntervalIndexTest {
+    @Mock
+    BookingRepository bookingRepository;
+
+    BookingIntervalIndex index;
+    LocalDateTime day;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookingIntervalIndex(bookingRepository);
+        day = LocalDateTime.of(2030, 1, 1, 0, 0);
+        when(bookingRepository.findByItem_IdAndStatus(1L, BookingStatus.APPROVED)).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    void overlapsTest() {
+        index.add(1L, day.plusDays(1), day.plusDays(2));
+
+        Assertions.assertTrue(index.overlaps(1L, day, day.plusDays(1).plusHours(1)));
+        Assertions.assertTrue(index.overlaps(1L, day.plusDays(1).plusHours(1), day.plusDays(1).plusHours(2)));
+        Assertions.assertFalse(index.overlaps(1L, day, day.plusDays(1)));
+        Assertions.assertFalse(index.overlaps(1L, day.plusDays(2), day.plusDays(3)));
+        verify(bookingRepository, times(1)).findByItem_IdAndStatus(1L, BookingStatus.APPROVED);
+    }
+
+    @Test
+    void evictAllReloadsFromDatabaseTest() {
+        index.add(1L, day.plusDays(1), day.plusDays(2));
+        Assertions.assertTrue(index.overlaps(1L, day, day.plusDays(3)));
+
+        index.evictAllAfterCommit();
+
+        Assertions.assertFalse(index.overlaps(1L, day, day.plusDays(3)));
+        verify(bookingRepository, times(2)).findByItem_IdAndStatus(1L, BookingStatus.APPROVED);
+    }
+
+    @Test
+    void mergeTest() {
+        index.add(1L, day.plusDays(1), day.plusDays(2));
+        index.add(1L, day.plusDays(4), day.plusDays(5));
+        index.add(1L, day.plusDays(2), day.plusDays(4));
+
+        Assertions.assertTrue(index.overlaps(1L, day.plusDays(3), day.plusDays(3).plusHours(1)));
+        Assertions.assertFalse(index.overlaps(1L, day.plusDays(5), day.plusDays(6)));
+        Assertions.assertFalse(index.overlaps(1L, day, day.plusDays(1)));
+    }
+
+    @Test
+    void busyIsNotChangedByLaterMergeTest() {
+        index.add(1L, day.plusDays(1), day.plusDays(2));
+        List<Map.Entry<LocalDateTime, LocalDateTime>> busy = index.busy(1L, day, day.plusDays(10));
+
+        index.add(1L, day.plusDays(2), day.plusDays(3));
+
+        Assertions.assertEquals(day.plusDays(2), busy.get(0).getValue());
+        Assertions.assertEquals(day.plusDays(3), index.busy(1L, day, day.plusDays(10)).get(0).getValue());
+    }
+}
@@ -0,0 +1,108 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BookingServiceConcurrencyTest {
+    private static final int ROUNDS = 20;
+
+    private final BookingService bookingService;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+
+    User owner;
+    User booker;
+    Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("owner")
+                .email("owner@gmail.com")
+                .build());
+
+        booker = userRepository.save(User.builder()
+                .name("booker")
+                .email("booker@gmail.com")
+                .build());
+
+        item = itemRepository.save(Item.builder()
+                .name("drill")
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .build());
+    }
+
+    @Test
+    void concurrentApproveAndRejectTest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            LocalDateTime day = LocalDateTime.now().plusDays(1);
+            for (int i = 0; i < ROUNDS; i++) {
+                LocalDateTime start = day.plusDays(i);
+                LocalDateTime end = start.plusHours(1);
+                Booking booking = bookingRepository.save(Booking.builder()
+                        .item(item)
+                        .booker(booker)
+                        .start(start)
+                        .end(end)
+                        .status(BookingStatus.WAITING)
+                        .build());
+
+                CountDownLatch go = new CountDownLatch(1);
+                Future<?> approve = executor.submit(() -> {
+                    go.await();
+                    return bookingService.approve(booking.getId(), owner.getId(), true);
+                });
+                Future<?> reject = executor.submit(() -> {
+                    go.await();
+                    return bookingService.approve(booking.getId(), owner.getId(), false);
+                });
+                go.countDown();
+
+                boolean approved = succeeded(approve);
+                boolean rejected = succeeded(reject);
+                Assertions.assertTrue(approved ^ rejected);
+
+                BookingStatus status = bookingRepository.findById(booking.getId()).orElseThrow().getStatus();
+                Assertions.assertEquals(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED, status);
+                Assertions.assertEquals(approved, bookingIntervalIndex.overlaps(item.getId(), start, end));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean succeeded(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+            return true;
+        } catch (ExecutionException e) {
+            Assertions.assertInstanceOf(BadRequestException.class, e.getCause());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BookingServiceQueryCountTest {
+    private static final int ITEMS = 3;
+
+    private final BookingService bookingService;
+    private final ItemService itemService;
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    User owner;
+    User booker;
+    List<Booking> bookings;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        owner = userRepository.save(User.builder()
+                .name("owner")
+                .email("owner@gmail.com")
+                .build());
+
+        booker = userRepository.save(User.builder()
+                .name("booker")
+                .email("booker@gmail.com")
+                .build());
+
+        bookings = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("item " + i)
+                    .description("description")
+                    .available(true)
+                    .owner(owner)
+                    .build());
+
+            bookings.add(bookingRepository.save(Booking.builder()
+                    .item(item)
+                    .booker(booker)
+                    .start(now.minusDays(i + 2))
+                    .end(now.minusDays(i + 1))
+                    .status(BookingStatus.APPROVED)
+                    .build()));
+
+            commentRepository.save(Comment.builder()
+                    .item(item)
+                    .author(booker)
+                    .text("comment " + i)
+                    .created(now)
+                    .build());
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getBookingTest() {
+        BookingDto booking = bookingService.getBooking(bookings.get(0).getId(), booker.getId());
+
+        // booking with booker and item, then the item's comments
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        Assertions.assertEquals("booker", booking.getBooker().getName());
+        Assertions.assertEquals(1, booking.getItem().getComments().size());
+    }
+
+    @Test
+    void getAllByUserTest() {
+        List<BookingDto> page = bookingService.getAllByUser(booker.getId(), BookingState.ALL, BookingCursor.FIRST,
+                PageRequest.of(0, 10));
+
+        // caller probe, one projection of bookings with their bookers and items; comments are never read
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(ITEMS, page.size());
+        page.forEach(booking -> {
+            Assertions.assertEquals("booker", booking.getBooker().getName());
+            Assertions.assertEquals(owner.getId(), booking.getItem().getUserId());
+            Assertions.assertTrue(booking.getItem().getComments().isEmpty());
+        });
+    }
+
+    @Test
+    void getAllByOwnerTest() {
+        List<BookingDto> page = bookingService.getAllByOwner(owner.getId(), BookingState.ALL, BookingCursor.FIRST,
+                PageRequest.of(0, 10));
+
+        // caller probe, owner check, one projection of bookings with their bookers and items
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(ITEMS, page.size());
+    }
+
+    @Test
+    void getItemsByUserIdTest() {
+        List<ItemDto> items = itemService.getItemsByUserId(owner.getId(), PageRequest.of(0, 10));
+
+        // caller probe, items, last and next bookings, one batch of comments, one batch of comment authors
+        Assertions.assertEquals(5, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(ITEMS, items.size());
+        items.forEach(item -> Assertions.assertEquals("booker", item.getComments().get(0).getAuthorName()));
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class AvailabilityPropertiesTest {
+
+    @Test
+    void granularityBelowOneSecondIsRejectedTest() {
+        AvailabilityProperties properties = new AvailabilityProperties();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> properties.setGranularity(Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> properties.setGranularity(Duration.ofMillis(500)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> properties.setGranularity(Duration.ofMillis(1500)));
+    }
+
+    @Test
+    void wholeSecondGranularityIsAcceptedTest() {
+        AvailabilityProperties properties = new AvailabilityProperties();
+
+        properties.setGranularity(Duration.ofMinutes(15));
+
+        Assertions.assertEquals(Duration.ofMinutes(15), properties.getGranularity());
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+class DataSourcePoolConfigTest {
+
+    @Test
+    void poolIsSizedByDatabaseCoresTest() {
+        HikariDataSource dataSource = new HikariDataSource();
+        BeanPostProcessor sizer = DataSourcePoolConfig.hikariPoolSizer(new MockEnvironment()
+                .withProperty(DataSourcePoolConfig.CORES, "4"));
+
+        sizer.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        Assertions.assertEquals(9, dataSource.getMaximumPoolSize());
+        Assertions.assertEquals(9, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    void configuredPoolSizeIsKeptTest() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(30);
+        BeanPostProcessor sizer = DataSourcePoolConfig.hikariPoolSizer(new MockEnvironment()
+                .withProperty(DataSourcePoolConfig.MAXIMUM_POOL_SIZE, "30")
+                .withProperty(DataSourcePoolConfig.CORES, "4"));
+
+        sizer.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        Assertions.assertEquals(30, dataSource.getMaximumPoolSize());
+    }
+}
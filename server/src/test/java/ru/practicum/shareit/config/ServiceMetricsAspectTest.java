@@ -0,0 +1,72 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.BookingCursor;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ServiceMetricsAspectTest {
+    private final BookingService bookingService;
+    private final UserRepository userRepository;
+    private final MeterRegistry registry;
+
+    User booker;
+
+    @BeforeEach
+    void setUp() {
+        booker = userRepository.save(User.builder()
+                .name("booker")
+                .email("booker@gmail.com")
+                .build());
+    }
+
+    @Test
+    void serviceCallIsTimedByStateTest() {
+        bookingService.getAllByUser(booker.getId(), BookingState.FUTURE, BookingCursor.FIRST, PageRequest.of(0, 10));
+
+        Timer timer = registry.find(ServiceMetricsAspect.TIMER)
+                .tags("service", "BookingServiceImpl", "method", "getAllByUser", "state", "FUTURE", "exception", "none")
+                .timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+        Assertions.assertEquals(0, registry.find(ServiceMetricsAspect.RESULT_SIZE)
+                .tags("method", "getAllByUser", "state", "FUTURE")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    void serviceExceptionIsCountedTest() {
+        Assertions.assertThrows(NotFoundException.class, () -> bookingService.getAllByUser(booker.getId() + 1,
+                BookingState.ALL, BookingCursor.FIRST, PageRequest.of(0, 10)));
+
+        Assertions.assertEquals(1, registry.find(ServiceMetricsAspect.ERRORS)
+                .tags("method", "getAllByUser", "state", "ALL", "exception", "NotFoundException")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void repositoryCallIsTimedTest() {
+        userRepository.findById(booker.getId());
+
+        Assertions.assertNotNull(registry.find("spring.data.repository.invocations")
+                .tags("repository", "UserRepository", "method", "findById")
+                .timer());
+    }
+}
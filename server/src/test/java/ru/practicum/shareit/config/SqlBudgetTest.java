@@ -0,0 +1,65 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.utils.HttpHeaders;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "shareit.sql-budget.statements=2")
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SqlBudgetTest {
+    private final MockMvc mockMvc;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+
+    User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("owner")
+                .email("owner@gmail.com")
+                .build());
+
+        itemRepository.save(Item.builder()
+                .name("drill")
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .build());
+    }
+
+    @Test
+    void countsAreReturnedAsHeadersTest() throws Exception {
+        // caller probe, bookings
+        mockMvc.perform(get("/bookings").header(HttpHeaders.USER_ID, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.SQL_STATEMENTS, "2"))
+                .andExpect(header().exists(HttpHeaders.SQL_ROWS));
+    }
+
+    @Test
+    void requestOverBudgetFailsInTestsTest() throws Exception {
+        // caller probe, owner check, bookings
+        mockMvc.perform(get("/bookings/owner").header(HttpHeaders.USER_ID, owner.getId()))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value(startsWith("3 statements")));
+    }
+}
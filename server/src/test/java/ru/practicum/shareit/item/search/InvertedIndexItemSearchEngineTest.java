@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InvertedIndexItemSearchEngineTest {
+    @Mock
+    ItemRepository itemRepository;
+    @Mock
+    PlatformTransactionManager transactionManager;
+    @InjectMocks
+    InvertedIndexItemSearchEngine searchEngine;
+
+    Item deleted;
+    Item drill;
+
+    @BeforeEach
+    void setUp() {
+        deleted = Item.builder().id(1L).name("old drill").description("description").available(true).build();
+        drill = Item.builder().id(2L).name("drill").description("description").available(true).build();
+        searchEngine.onItemSaved(deleted);
+        searchEngine.onItemSaved(drill);
+    }
+
+    @Test
+    void searchDropsItemsDeletedByCascadeTest() {
+        when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(drill));
+        when(itemRepository.findAllById(List.of(2L))).thenReturn(List.of(drill));
+
+        Assertions.assertEquals(List.of(drill), searchEngine.search("drill", PageRequest.of(0, 2)));
+        Assertions.assertEquals(List.of(drill), searchEngine.search("drill", PageRequest.of(0, 2)));
+
+        verify(itemRepository).findAllById(List.of(1L, 2L));
+    }
+
+    @Test
+    void afterCommitIndexesCurrentStateTest() {
+        ItemSearchView renamed = mock(ItemSearchView.class);
+        when(renamed.getName()).thenReturn("hammer");
+        when(renamed.getDescription()).thenReturn("description");
+        when(renamed.getAvailable()).thenReturn(true);
+        when(itemRepository.findSearchViewById(2L)).thenReturn(Optional.of(renamed));
+        when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(deleted));
+        when(itemRepository.findAllById(List.of(2L))).thenReturn(List.of(drill));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            searchEngine.onItemSaved(drill);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(List.of(drill), searchEngine.search("hammer", PageRequest.of(0, 2)));
+        Assertions.assertEquals(List.of(deleted), searchEngine.search("drill", PageRequest.of(0, 2)));
+    }
+}
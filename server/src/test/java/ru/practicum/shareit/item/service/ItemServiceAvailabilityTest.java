@@ -0,0 +1,73 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.config.AvailabilityProperties;
+import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.TimeSlotDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemServiceAvailabilityTest {
+    @Mock
+    ItemRepository itemRepository;
+    @Mock
+    BookingIntervalIndex bookingIntervalIndex;
+    @Mock
+    AvailabilityProperties availabilityProperties;
+    @InjectMocks
+    ItemServiceImpl itemService;
+
+    LocalDateTime day;
+
+    @BeforeEach
+    void setUp() {
+        day = LocalDateTime.of(2030, 1, 1, 0, 0);
+    }
+
+    @Test
+    void getAvailabilityTest() {
+        LocalDateTime from = day.plusMinutes(30);
+        LocalDateTime to = day.plusHours(10).plusMinutes(30);
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(availabilityProperties.getGranularity()).thenReturn(Duration.ofHours(1));
+        when(bookingIntervalIndex.busy(1L, from, to)).thenReturn(List.of(
+                new AbstractMap.SimpleEntry<>(day.plusHours(3).plusMinutes(15), day.plusHours(4).plusMinutes(15)),
+                new AbstractMap.SimpleEntry<>(day.plusHours(8), day.plusHours(12))));
+
+        ItemAvailabilityDto availability = itemService.getAvailability(1L, from, to);
+
+        Assertions.assertEquals(List.of(
+                new TimeSlotDto(day.plusHours(1), day.plusHours(3)),
+                new TimeSlotDto(day.plusHours(5), day.plusHours(8))), availability.getFreeSlots());
+    }
+
+    @Test
+    void getAvailabilityWithInvalidRangeTest() {
+        Assertions.assertThrows(BadRequestException.class,
+                () -> itemService.getAvailability(1L, day.plusHours(1), day));
+    }
+
+    @Test
+    void getAvailabilityOfUnknownItemTest() {
+        when(itemRepository.existsById(1L)).thenReturn(false);
+
+        Assertions.assertThrows(NotFoundException.class,
+                () -> itemService.getAvailability(1L, day, day.plusHours(1)));
+    }
+}
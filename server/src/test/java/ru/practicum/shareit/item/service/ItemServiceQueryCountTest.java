@@ -0,0 +1,125 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ItemServiceQueryCountTest {
+    private final ItemService itemService;
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    User owner;
+    User booker;
+    Item item;
+    Booking lastBooking;
+    Booking nextBooking;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        owner = userRepository.save(User.builder()
+                .name("owner")
+                .email("owner@gmail.com")
+                .build());
+
+        booker = userRepository.save(User.builder()
+                .name("booker")
+                .email("booker@gmail.com")
+                .build());
+
+        item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        lastBooking = bookingRepository.save(Booking.builder()
+                .item(item)
+                .booker(booker)
+                .start(now.minusDays(2))
+                .end(now.minusDays(1))
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        nextBooking = bookingRepository.save(Booking.builder()
+                .item(item)
+                .booker(booker)
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(Comment.builder()
+                    .item(item)
+                    .author(booker)
+                    .text("comment " + i)
+                    .created(now)
+                    .build());
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getItemByIdForOwnerTest() {
+        ItemDto itemDto = itemService.getItemById(item.getId(), owner.getId());
+
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(3, itemDto.getComments().size());
+        Assertions.assertEquals(lastBooking.getId(), itemDto.getLastBooking().getId());
+        Assertions.assertEquals(nextBooking.getId(), itemDto.getNextBooking().getId());
+    }
+
+    @Test
+    void getItemByIdForNotOwnerTest() {
+        ItemDto itemDto = itemService.getItemById(item.getId(), booker.getId());
+
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(3, itemDto.getComments().size());
+        Assertions.assertNull(itemDto.getLastBooking());
+        Assertions.assertNull(itemDto.getNextBooking());
+    }
+
+    @Test
+    void getItemsByUserIdTest() {
+        List<ItemDto> items = itemService.getItemsByUserId(owner.getId(), PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, items.size());
+        Assertions.assertEquals(lastBooking.getId(), items.get(0).getLastBooking().getId());
+        Assertions.assertEquals(nextBooking.getId(), items.get(0).getNextBooking().getId());
+    }
+}
@@ -0,0 +1,145 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.BookingCursor;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+/**
+ * Each endpoint is called twice: the second call finds its caller in {@link UserExistence}
+ * and must issue exactly one statement less than the first.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class UserExistenceQueryCountTest {
+    private final BookingService bookingService;
+    private final ItemService itemService;
+    private final ItemRequestService itemRequestService;
+    private final UserService userService;
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository requestRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    User owner;
+    User requester;
+    Item item;
+    ItemRequest request;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("owner")
+                .email("owner@gmail.com")
+                .build());
+
+        requester = userRepository.save(User.builder()
+                .name("requester")
+                .email("requester@gmail.com")
+                .build());
+
+        request = requestRepository.save(ItemRequest.builder()
+                .description("need a drill")
+                .requester(requester)
+                .created(LocalDateTime.now())
+                .build());
+
+        item = itemRepository.save(Item.builder()
+                .name("drill")
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .request(request)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllByUserTest() {
+        Runnable call = () -> bookingService.getAllByUser(requester.getId(), BookingState.ALL,
+                BookingCursor.FIRST, PageRequest.of(0, 10));
+
+        Assertions.assertEquals(2, statementsOf(call));
+        Assertions.assertEquals(1, statementsOf(call));
+    }
+
+    @Test
+    void getAllByOwnerTest() {
+        assertProbeSavesOneStatement(() -> bookingService.getAllByOwner(owner.getId(), BookingState.ALL,
+                BookingCursor.FIRST, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void getItemByIdForNotOwnerTest() {
+        assertProbeSavesOneStatement(() -> itemService.getItemById(item.getId(), requester.getId()));
+    }
+
+    @Test
+    void getItemsByUserIdTest() {
+        assertProbeSavesOneStatement(() -> itemService.getItemsByUserId(owner.getId(), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void getUserRequestsTest() {
+        assertProbeSavesOneStatement(() -> itemRequestService.getUserRequests(requester.getId()));
+    }
+
+    @Test
+    void getAllRequestsTest() {
+        assertProbeSavesOneStatement(() -> itemRequestService.getAllRequests(owner.getId(), 0, 10));
+    }
+
+    @Test
+    void getRequestTest() {
+        assertProbeSavesOneStatement(() -> itemRequestService.getRequest(owner.getId(), request.getId()));
+    }
+
+    @Test
+    void deletedUserIsNotFoundTest() {
+        bookingService.getAllByUser(requester.getId(), BookingState.ALL, BookingCursor.FIRST, PageRequest.of(0, 10));
+
+        userService.delete(requester.getId());
+
+        Assertions.assertThrows(NotFoundException.class, () -> bookingService.getAllByUser(requester.getId(),
+                BookingState.ALL, BookingCursor.FIRST, PageRequest.of(0, 10)));
+    }
+
+    private void assertProbeSavesOneStatement(Runnable call) {
+        long cold = statementsOf(call);
+        long warm = statementsOf(call);
+
+        Assertions.assertEquals(cold - 1, warm);
+    }
+
+    private long statementsOf(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.user.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.config.SqlBudgetFilter;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.utils.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class UserControllerTest {
+    private final MockMvc mockMvc;
+    private final UserRepository userRepository;
+    private final MeterRegistry registry;
+
+    @Test
+    void getAllUsersIsUnpagedByDefaultTest() throws Exception {
+        saveUsers(3);
+
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(header().doesNotExist(HttpHeaders.NEXT_CURSOR));
+    }
+
+    @Test
+    void getAllUsersIsPagedWhenSizeIsGivenTest() throws Exception {
+        List<User> users = saveUsers(3);
+
+        mockMvc.perform(get("/users").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string(HttpHeaders.NEXT_CURSOR, String.valueOf(users.get(1).getId())));
+    }
+
+    @Test
+    void getAllUsersRejectsNonPositiveSizeTest() throws Exception {
+        mockMvc.perform(get("/users").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/users").param("cursor", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamAllUsersTest() throws Exception {
+        saveUsers(1200);
+
+        MvcResult result = mockMvc.perform(get("/users").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        String body = result.getResponse().getContentAsString();
+        Assertions.assertEquals(1200, body.lines().count());
+        Assertions.assertNull(registry.find(SqlBudgetFilter.ROWS).tag("uri", "/users").summary());
+    }
+
+    private List<User> saveUsers(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .name("user" + i)
+                    .email("user" + i + "@gmail.com")
+                    .build());
+        }
+        return userRepository.saveAll(users);
+    }
+}
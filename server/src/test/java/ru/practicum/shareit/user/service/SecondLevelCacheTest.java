@@ -0,0 +1,125 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.item.dto.ItemDtoMarker;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+@SpringBootTest
+@ActiveProfiles({"test", "l2cache"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SecondLevelCacheTest {
+    private final UserService userService;
+    private final ItemService itemService;
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository requestRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    User owner;
+    User requester;
+    ItemRequest request;
+    Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("owner")
+                .email("owner@gmail.com")
+                .build());
+
+        requester = userRepository.save(User.builder()
+                .name("requester")
+                .email("requester@gmail.com")
+                .build());
+
+        request = requestRepository.save(ItemRequest.builder()
+                .description("need a drill")
+                .requester(requester)
+                .created(LocalDateTime.now())
+                .build());
+
+        item = itemRepository.save(Item.builder()
+                .name("drill")
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .request(request)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getByIdIsServedFromCacheTest() {
+        userService.getById(owner.getId());
+        statistics.clear();
+
+        UserDto user = userService.getById(owner.getId());
+
+        Assertions.assertEquals("owner", user.getName());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void existsByIdIsServedFromQueryCacheTest() {
+        userRepository.existsById(owner.getId());
+        statistics.clear();
+
+        Assertions.assertTrue(userRepository.existsById(owner.getId()));
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void updateUserKeepsCacheCoherentTest() {
+        userService.getById(owner.getId());
+
+        userService.update(owner.getId(), UserDto.builder().name("renamed").build());
+
+        Assertions.assertEquals("renamed", userService.getById(owner.getId()).getName());
+    }
+
+    @Test
+    void updateItemKeepsCacheCoherentTest() {
+        itemRepository.findById(item.getId());
+
+        itemService.update(item.getId(), ItemDtoMarker.builder().name("hammer").build(), owner.getId());
+
+        Assertions.assertEquals("hammer", itemRepository.findById(item.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void deleteUserEvictsCascadedEntitiesTest() {
+        requestRepository.findById(request.getId());
+        itemRepository.findById(item.getId());
+
+        userService.delete(requester.getId());
+
+        Assertions.assertFalse(userRepository.existsById(requester.getId()));
+        Assertions.assertTrue(requestRepository.findById(request.getId()).isEmpty());
+        Assertions.assertTrue(itemRepository.findById(item.getId()).isEmpty());
+    }
+}
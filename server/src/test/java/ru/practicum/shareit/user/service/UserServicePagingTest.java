@@ -0,0 +1,51 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class UserServicePagingTest {
+    private final UserService userService;
+
+    List<UserDto> users;
+
+    @BeforeEach
+    void setUp() {
+        users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(userService.create(UserDto.builder()
+                    .name("user" + i)
+                    .email("user" + i + "@gmail.com")
+                    .build()));
+        }
+    }
+
+    @Test
+    void getAllTest() {
+        List<UserDto> firstPage = userService.getAll(0L, 2);
+        List<UserDto> secondPage = userService.getAll(firstPage.get(1).getId(), 2);
+
+        Assertions.assertEquals(users.subList(0, 2), firstPage);
+        Assertions.assertEquals(users.subList(2, 3), secondPage);
+    }
+
+    @Test
+    void streamAllTest() {
+        List<UserDto> streamed = new ArrayList<>();
+
+        userService.streamAll(streamed::add);
+
+        Assertions.assertEquals(users, streamed);
+    }
+}